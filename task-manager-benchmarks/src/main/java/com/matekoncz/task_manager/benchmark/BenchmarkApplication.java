@@ -0,0 +1,109 @@
+package com.matekoncz.task_manager.benchmark;
+
+import com.matekoncz.task_manager.TaskManagerApplication;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.user.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public final class BenchmarkApplication {
+
+    public static final String USERNAME = "bench-user";
+    public static final String PASSWORD = "bench-password";
+    public static final int USER_COUNT = 20;
+    public static final int CATEGORY_COUNT = 10;
+    public static final List<String> DESCRIPTION_WORDS = List.of("routine", "release", "invoice", "backup",
+            "meeting", "deploy", "review", "migration", "report", "urgent");
+
+    private static final int TASK_INSERT_CHUNK_SIZE = 100_000;
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(int taskCount) throws Exception {
+        return start(taskCount, USER_COUNT, CATEGORY_COUNT);
+    }
+
+    public static ConfigurableApplicationContext start(int taskCount, int userCount, int categoryCount,
+            String... args) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.url=jdbc:h2:file:./target/benchmark-db/tasks-" + taskCount + "-" + userCount
+                        + "-" + categoryCount));
+        arguments.addAll(List.of(args));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .run(arguments.toArray(new String[0]));
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        int removedTasks = jdbcTemplate.update("DELETE FROM task WHERE id > ?", taskCount);
+        Long seededTasks = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task", Long.class);
+        if (seededTasks == null || seededTasks != taskCount) {
+            seed(jdbcTemplate, context.getBean(UserService.class), taskCount, userCount, categoryCount);
+        }
+        if (removedTasks > 0 || seededTasks == null || seededTasks != taskCount) {
+            context.getBean(TaskService.class).rebuildSearchIndex();
+        }
+        return context;
+    }
+
+    public static long firstUserId(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM task_manager_user WHERE username LIKE 'bench-user-%'",
+                Long.class);
+    }
+
+    public static long firstCategoryId(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM category WHERE name LIKE 'Benchmark %'", Long.class);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, UserService userService, int taskCount, int userCount,
+            int categoryCount) throws Exception {
+        jdbcTemplate.update("DELETE FROM task");
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_manager_user WHERE username = ?", Long.class,
+                USERNAME) == 0) {
+            userService.createUser(new User(null, USERNAME, PASSWORD));
+        }
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_manager_user WHERE username LIKE 'bench-user-%'",
+                Long.class) == 0) {
+            jdbcTemplate.update("INSERT INTO task_manager_user (username, password) "
+                    + "SELECT 'bench-user-' || x, (SELECT password FROM task_manager_user WHERE username = ?) "
+                    + "FROM SYSTEM_RANGE(1, ?)", USERNAME, userCount);
+        }
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category WHERE name LIKE 'Benchmark %'",
+                Long.class) == 0) {
+            jdbcTemplate.update("INSERT INTO category (name) SELECT 'Benchmark ' || x FROM SYSTEM_RANGE(1, ?)",
+                    categoryCount);
+        }
+        long firstUserId = firstUserId(jdbcTemplate);
+        long firstCategoryId = firstCategoryId(jdbcTemplate);
+        String insertTasks = "INSERT INTO task (id, created_at, description, due_date, priority, status, "
+                + "assignee_id, creator_id, category_id) "
+                + "SELECT x, DATEADD(DAY, MOD(x, 365), DATE '2025-01-01'), "
+                + "'benchmark task ' || x || ' ' || " + describeWords() + ", "
+                + "DATEADD(DAY, MOD(x, 730), DATE '2025-01-01'), MOD(x, 4), MOD(x / 3, 4), "
+                + "CASE WHEN MOD(x, 10) = 0 THEN NULL ELSE ? + MOD(x, ?) END, ? + MOD(x / 7, ?), "
+                + "CASE WHEN MOD(x, 11) = 0 THEN NULL ELSE ? + MOD(x, ?) END "
+                + "FROM SYSTEM_RANGE(?, ?)";
+        for (int from = 1; from <= taskCount; from += TASK_INSERT_CHUNK_SIZE) {
+            int to = Math.min(taskCount, from + TASK_INSERT_CHUNK_SIZE - 1);
+            jdbcTemplate.update(insertTasks, firstUserId, userCount, firstUserId, userCount, firstCategoryId,
+                    categoryCount, from, to);
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE task_seq RESTART WITH " + (taskCount + 51));
+    }
+
+    private static String describeWords() {
+        StringBuilder words = new StringBuilder("CASE MOD(x, 50)");
+        for (int i = 1; i < DESCRIPTION_WORDS.size(); i++) {
+            words.append(" WHEN ").append(i - 1).append(" THEN '").append(DESCRIPTION_WORDS.get(i)).append("'");
+        }
+        return words.append(" ELSE '").append(DESCRIPTION_WORDS.get(0)).append("' END").toString();
+    }
+}
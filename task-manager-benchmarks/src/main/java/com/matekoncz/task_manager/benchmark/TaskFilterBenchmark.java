@@ -0,0 +1,69 @@
+package com.matekoncz.task_manager.benchmark;
+
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.service.task.SearchResult;
+import com.matekoncz.task_manager.service.task.TaskService;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskFilterBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int taskCount;
+
+    @Param
+    private TaskFilterShape shape;
+
+    @Param({ "true", "false" })
+    private boolean withTotal;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start(taskCount);
+        taskService = context.getBean(TaskService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        filter = shape.create(BenchmarkApplication.firstUserId(jdbcTemplate),
+                BenchmarkApplication.firstCategoryId(jdbcTemplate));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SearchResult firstPageByDueDate() {
+        return taskService.listTaskByFilter(filter, 0, 20, "dueDate", true, withTotal);
+    }
+
+    @Benchmark
+    public SearchResult deepPageByDueDate() {
+        return taskService.listTaskByFilter(filter, 500, 20, "dueDate", true, withTotal);
+    }
+}
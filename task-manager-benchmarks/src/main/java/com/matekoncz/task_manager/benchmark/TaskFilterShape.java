@@ -0,0 +1,48 @@
+package com.matekoncz.task_manager.benchmark;
+
+import com.matekoncz.task_manager.model.Category;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.UserDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public enum TaskFilterShape {
+    NONE,
+    STATUS,
+    STATUSES_AND_DUE_DATE_RANGE,
+    ASSIGNEE_AND_STATUS,
+    CATEGORY,
+    UNASSIGNED_IN_CATEGORIES,
+    DESCRIPTION;
+
+    public TaskFilter create(long firstUserId, long firstCategoryId) {
+        TaskFilter filter = new TaskFilter();
+        switch (this) {
+            case STATUS -> filter.setStatus(Status.IN_PROGRESS);
+            case STATUSES_AND_DUE_DATE_RANGE -> {
+                filter.setStatuses(List.of(Status.NEW, Status.IN_PROGRESS));
+                filter.setDueDateFrom(LocalDate.of(2025, 3, 1));
+                filter.setDueDateTo(LocalDate.of(2025, 5, 31));
+            }
+            case ASSIGNEE_AND_STATUS -> {
+                filter.setAssignee(new UserDto(firstUserId + 3, "bench-user-4"));
+                filter.setStatus(Status.NEW);
+            }
+            case CATEGORY -> {
+                Category category = new Category("Benchmark 1");
+                category.setId(firstCategoryId);
+                filter.setCategory(category);
+            }
+            case UNASSIGNED_IN_CATEGORIES -> {
+                filter.setUnassigned(true);
+                filter.setCategoryIds(List.of(firstCategoryId, firstCategoryId + 1, firstCategoryId + 2));
+            }
+            case DESCRIPTION -> filter.setDescription("urgent");
+            default -> {
+            }
+        }
+        return filter;
+    }
+}
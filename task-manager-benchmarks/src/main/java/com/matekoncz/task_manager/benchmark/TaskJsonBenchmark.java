@@ -0,0 +1,88 @@
+package com.matekoncz.task_manager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matekoncz.task_manager.model.Category;
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.task.SearchResult;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskJsonBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Task task;
+    private SearchResult searchResult;
+    private byte[] taskJson;
+    private byte[] searchResultJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        User creator = new User(1L, "bench-user", "bench-password");
+        User assignee = new User(2L, "bench-user-1", "bench-password");
+        Category category = new Category("Benchmark 1");
+        category.setId(1L);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            Task page = new Task((long) i + 1, "benchmark task " + i + " routine work",
+                    Status.values()[i % Status.values().length], i % 10 == 0 ? null : assignee, creator,
+                    LocalDate.of(2025, 1, 1).plusDays(i), LocalDate.of(2025, 1, 1),
+                    Priority.values()[i % Priority.values().length], i % 11 == 0 ? null : category);
+            page.setVersion(0L);
+            tasks.add(page);
+        }
+        task = tasks.get(1);
+        searchResult = new SearchResult(10_000, tasks, true);
+        taskJson = objectMapper.writeValueAsBytes(task);
+        searchResultJson = objectMapper.writeValueAsBytes(searchResult);
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws Exception {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public Task deserializeTask() throws Exception {
+        return objectMapper.readValue(taskJson, Task.class);
+    }
+
+    @Benchmark
+    public byte[] serializeSearchResult() throws Exception {
+        return objectMapper.writeValueAsBytes(searchResult);
+    }
+
+    @Benchmark
+    public SearchResult deserializeSearchResult() throws Exception {
+        return objectMapper.readValue(searchResultJson, SearchResult.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.matekoncz.task_manager.benchmark;
+
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.service.task.TaskService;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSpecificationBenchmark {
+
+    @Param
+    private TaskFilterShape shape;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TaskService taskService;
+    private TaskFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start(1000);
+        taskService = context.getBean(TaskService.class);
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        filter = shape.create(BenchmarkApplication.firstUserId(jdbcTemplate),
+                BenchmarkApplication.firstCategoryId(jdbcTemplate));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Specification<Task> createSpecification() {
+        return taskService.createSecification(filter);
+    }
+
+    @Benchmark
+    public Predicate createPredicate() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        return taskService.createSecification(filter).toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,45 @@
+package com.matekoncz.task_manager.benchmark.load;
+
+import java.util.Arrays;
+
+public class LatencyRecorder {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private int errors;
+
+    public void record(long elapsedNanos, boolean success) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = elapsedNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public void addAll(LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.nanos[i], true);
+        }
+        errors += other.errors;
+    }
+
+    public int getCount() {
+        return size;
+    }
+
+    public int getErrors() {
+        return errors;
+    }
+
+    public double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(nanos, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,264 @@
+package com.matekoncz.task_manager.benchmark.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matekoncz.task_manager.benchmark.BenchmarkApplication;
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class LoadTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_OFFSET = 200;
+    private static final int LOGIN_ATTEMPTS = 50;
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private String baseUrl;
+    private long firstUserId;
+    private long firstCategoryId;
+
+    public LoadTest(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest(LoadTestSettings.parse(args)).run();
+    }
+
+    public void run() throws Exception {
+        long seedingStarted = System.nanoTime();
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start(settings.getTasks(),
+                settings.getUsers(), settings.getCategories(),
+                "--task-manager.password.hashing-queue-capacity=" + settings.getClients())) {
+            System.out.printf("started with %d tasks, %d users and %d categories in %d s%n", settings.getTasks(),
+                    settings.getUsers(), settings.getCategories(), (System.nanoTime() - seedingStarted) / 1_000_000_000);
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            firstUserId = BenchmarkApplication.firstUserId(jdbcTemplate);
+            firstCategoryId = BenchmarkApplication.firstCategoryId(jdbcTemplate);
+            report(drive());
+        }
+    }
+
+    private Map<LoadTestOperation, LatencyRecorder> drive() throws Exception {
+        long measureFrom = System.nanoTime() + settings.getWarmup().toNanos();
+        long deadline = measureFrom + settings.getDuration().toNanos();
+        List<Future<Map<LoadTestOperation, LatencyRecorder>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.getClients(); i++) {
+                int clientIndex = i;
+                futures.add(executor.submit(() -> runClient(clientIndex, measureFrom, deadline)));
+            }
+        }
+        Map<LoadTestOperation, LatencyRecorder> merged = new EnumMap<>(LoadTestOperation.class);
+        for (Future<Map<LoadTestOperation, LatencyRecorder>> future : futures) {
+            future.get().forEach((operation, recorder) -> merged.computeIfAbsent(operation,
+                    key -> new LatencyRecorder()).addAll(recorder));
+        }
+        return merged;
+    }
+
+    private Map<LoadTestOperation, LatencyRecorder> runClient(int clientIndex, long measureFrom, long deadline)
+            throws Exception {
+        Random random = new Random(settings.getSeed() + clientIndex);
+        String cookie = login(randomUsername(random));
+        Deque<Long> createdIds = new ArrayDeque<>();
+        Map<LoadTestOperation, LatencyRecorder> recorders = new EnumMap<>(LoadTestOperation.class);
+        while (System.nanoTime() < deadline) {
+            LoadTestOperation operation = settings.pickOperation(random.nextInt(settings.getTotalWeight()));
+            if (operation == LoadTestOperation.DELETE && createdIds.isEmpty()) {
+                operation = LoadTestOperation.CREATE;
+            }
+            long started = System.nanoTime();
+            boolean success;
+            try {
+                success = execute(operation, random, cookie, createdIds);
+            } catch (Exception e) {
+                success = false;
+            }
+            if (started >= measureFrom) {
+                recorders.computeIfAbsent(operation, key -> new LatencyRecorder())
+                        .record(System.nanoTime() - started, success);
+            }
+        }
+        return recorders;
+    }
+
+    private boolean execute(LoadTestOperation operation, Random random, String cookie, Deque<Long> createdIds)
+            throws Exception {
+        return switch (operation) {
+            case LOGIN -> isSuccessful(send(loginRequest(randomUsername(random))));
+            case SEARCH -> isSuccessful(send(searchRequest(random, cookie)));
+            case CREATE -> {
+                HttpResponse<String> response = send(jsonRequest("/api/tasks", cookie)
+                        .POST(HttpRequest.BodyPublishers.ofString(taskBody(random)))
+                        .build());
+                if (isSuccessful(response)) {
+                    createdIds.push(objectMapper.readTree(response.body()).get("id").asLong());
+                }
+                yield isSuccessful(response);
+            }
+            case UPDATE -> isSuccessful(send(jsonRequest("/api/tasks/" + (1 + random.nextInt(settings.getTasks())),
+                    cookie)
+                    .PUT(HttpRequest.BodyPublishers.ofString(taskBody(random)))
+                    .build()));
+            case DELETE -> isSuccessful(send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/"
+                    + createdIds.pop()))
+                    .header(HttpHeaders.COOKIE, cookie)
+                    .DELETE()
+                    .build()));
+        };
+    }
+
+    private String login(String username) throws Exception {
+        for (int attempt = 0; attempt < LOGIN_ATTEMPTS; attempt++) {
+            HttpResponse<String> response = send(loginRequest(username));
+            if (isSuccessful(response)) {
+                return response.headers().firstValue(HttpHeaders.SET_COOKIE).orElseThrow();
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("Could not log in as " + username);
+    }
+
+    private HttpRequest loginRequest(String username) throws Exception {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                        Map.of("username", username, "password", BenchmarkApplication.PASSWORD))))
+                .build();
+    }
+
+    private HttpRequest searchRequest(Random random, String cookie) throws Exception {
+        int offset = random.nextInt(MAX_SEARCH_OFFSET / PAGE_SIZE) * PAGE_SIZE;
+        return jsonRequest("/api/tasks/all?offset=" + offset + "&pageSize=" + PAGE_SIZE
+                + "&orderBy=dueDate&withTotal=" + (offset == 0), cookie)
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(randomFilter(random))))
+                .build();
+    }
+
+    private Map<String, Object> randomFilter(Random random) {
+        Map<String, Object> filter = new LinkedHashMap<>();
+        switch (random.nextInt(5)) {
+            case 0 -> filter.put("status", randomStatus(random));
+            case 1 -> {
+                filter.put("statuses", List.of(Status.NEW, Status.IN_PROGRESS));
+                LocalDate from = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(700));
+                filter.put("dueDateFrom", from.toString());
+                filter.put("dueDateTo", from.plusDays(30).toString());
+            }
+            case 2 -> filter.put("assignee", Map.of("id", randomUserId(random)));
+            case 3 -> filter.put("category", Map.of("id", randomCategoryId(random)));
+            default -> filter.put("description", BenchmarkApplication.DESCRIPTION_WORDS
+                    .get(1 + random.nextInt(BenchmarkApplication.DESCRIPTION_WORDS.size() - 1)));
+        }
+        return filter;
+    }
+
+    private String taskBody(Random random) throws Exception {
+        Map<String, Object> task = new HashMap<>();
+        task.put("description", "load test task " + random.nextInt(1_000_000) + " "
+                + BenchmarkApplication.DESCRIPTION_WORDS.get(random.nextInt(BenchmarkApplication.DESCRIPTION_WORDS
+                        .size())));
+        task.put("status", randomStatus(random));
+        task.put("priority", Priority.values()[random.nextInt(Priority.values().length)]);
+        task.put("dueDate", LocalDate.of(2025, 1, 1).plusDays(random.nextInt(730)).toString());
+        task.put("assignee", Map.of("id", randomUserId(random)));
+        task.put("category", Map.of("id", randomCategoryId(random)));
+        return objectMapper.writeValueAsString(task);
+    }
+
+    private HttpRequest.Builder jsonRequest(String path, String cookie) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .header(HttpHeaders.COOKIE, cookie);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private boolean isSuccessful(HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    private Status randomStatus(Random random) {
+        return Status.values()[random.nextInt(Status.values().length)];
+    }
+
+    private String randomUsername(Random random) {
+        return "bench-user-" + (1 + random.nextInt(settings.getUsers()));
+    }
+
+    private long randomUserId(Random random) {
+        return firstUserId + random.nextInt(settings.getUsers());
+    }
+
+    private long randomCategoryId(Random random) {
+        return firstCategoryId + random.nextInt(settings.getCategories());
+    }
+
+    private void report(Map<LoadTestOperation, LatencyRecorder> recorders) throws Exception {
+        double seconds = settings.getDuration().toMillis() / 1000.0;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        LatencyRecorder total = new LatencyRecorder();
+        System.out.printf("%-8s %10s %8s %10s %10s %10s %10s %10s%n", "op", "requests", "errors", "req/s", "p50 ms",
+                "p99 ms", "p999 ms", "max ms");
+        for (Map.Entry<LoadTestOperation, LatencyRecorder> entry : recorders.entrySet()) {
+            rows.add(report(entry.getKey().name(), entry.getValue(), seconds));
+            total.addAll(entry.getValue());
+        }
+        rows.add(report("TOTAL", total, seconds));
+        File result = new File("target/load-test-result.json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(result, Map.of(
+                "tasks", settings.getTasks(),
+                "users", settings.getUsers(),
+                "categories", settings.getCategories(),
+                "clients", settings.getClients(),
+                "durationSeconds", seconds,
+                "results", rows));
+        System.out.println("Load test result is saved to " + result.getAbsolutePath());
+    }
+
+    private Map<String, Object> report(String name, LatencyRecorder recorder, double seconds) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("operation", name);
+        row.put("requests", recorder.getCount());
+        row.put("errors", recorder.getErrors());
+        row.put("throughput", recorder.getCount() / seconds);
+        row.put("p50", recorder.percentileMillis(50));
+        row.put("p99", recorder.percentileMillis(99));
+        row.put("p999", recorder.percentileMillis(99.9));
+        row.put("max", recorder.percentileMillis(100));
+        System.out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", name, recorder.getCount(),
+                recorder.getErrors(), recorder.getCount() / seconds, row.get("p50"), row.get("p99"), row.get("p999"),
+                row.get("max"));
+        return row;
+    }
+}
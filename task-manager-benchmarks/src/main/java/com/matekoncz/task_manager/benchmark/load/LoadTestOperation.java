@@ -0,0 +1,9 @@
+package com.matekoncz.task_manager.benchmark.load;
+
+public enum LoadTestOperation {
+    LOGIN,
+    SEARCH,
+    CREATE,
+    UPDATE,
+    DELETE
+}
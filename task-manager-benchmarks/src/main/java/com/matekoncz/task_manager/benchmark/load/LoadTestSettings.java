@@ -0,0 +1,97 @@
+package com.matekoncz.task_manager.benchmark.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LoadTestSettings {
+
+    private int tasks = 2_000_000;
+    private int users = 2_000;
+    private int categories = 200;
+    private int clients = 200;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+    private long seed = 42;
+    private Map<LoadTestOperation, Integer> mix = parseMix("login:2,search:60,create:15,update:15,delete:8");
+
+    public static LoadTestSettings parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            values.put(pair[0], pair[1]);
+        }
+        LoadTestSettings settings = new LoadTestSettings();
+        settings.tasks = Integer.parseInt(values.getOrDefault("tasks", String.valueOf(settings.tasks)));
+        settings.users = Integer.parseInt(values.getOrDefault("users", String.valueOf(settings.users)));
+        settings.categories = Integer.parseInt(values.getOrDefault("categories", String.valueOf(settings.categories)));
+        settings.clients = Integer.parseInt(values.getOrDefault("clients", String.valueOf(settings.clients)));
+        settings.warmup = Duration.parse(values.getOrDefault("warmup", settings.warmup.toString()));
+        settings.duration = Duration.parse(values.getOrDefault("duration", settings.duration.toString()));
+        settings.seed = Long.parseLong(values.getOrDefault("seed", String.valueOf(settings.seed)));
+        if (values.containsKey("mix")) {
+            settings.mix = parseMix(values.get("mix"));
+        }
+        return settings;
+    }
+
+    private static Map<LoadTestOperation, Integer> parseMix(String mix) {
+        Map<LoadTestOperation, Integer> weights = new EnumMap<>(LoadTestOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.split(":", 2);
+            weights.put(LoadTestOperation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    public LoadTestOperation pickOperation(int roll) {
+        int remaining = roll;
+        for (Map.Entry<LoadTestOperation, Integer> weight : mix.entrySet()) {
+            remaining -= weight.getValue();
+            if (remaining < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("Roll is outside of the operation mix: " + roll);
+    }
+
+    public int getTotalWeight() {
+        return mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public int getTasks() {
+        return tasks;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getCategories() {
+        return categories;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Map<LoadTestOperation, Integer> getMix() {
+        return mix;
+    }
+}
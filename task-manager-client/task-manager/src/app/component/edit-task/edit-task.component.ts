@@ -48,6 +48,7 @@ export class EditTaskComponent implements OnInit {
   editMode = false;
   loading = false;
   creator: User | null = null;
+  version: number | undefined;
 
   constructor(
     private fb: FormBuilder,
@@ -77,6 +78,7 @@ export class EditTaskComponent implements OnInit {
       this.editMode = true;
       const task = await this.taskService.getTaskById(+id);
       this.creator = task.creator ?? null;
+      this.version = task.version;
       this.taskForm.patchValue({
         description: task.description,
         status: task.status,
@@ -106,6 +108,7 @@ export class EditTaskComponent implements OnInit {
       dueDate: this.formatLocalDate(formValue.dueDate),
       createdAt: formValue.createdAt,
       category: formValue.category,
+      version: this.version,
     };
     try {
       if (this.editMode && this.route.snapshot.paramMap.get('id')) {
@@ -1,4 +1,4 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
 import { FormBuilder, FormGroup, ReactiveFormsModule } from '@angular/forms';
 import { TaskService } from '../../service/task.service';
 import { UserService } from '../../service/user.service';
@@ -6,6 +6,7 @@ import { Task } from '../../model/Task';
 import { User } from '../../model/User';
 import { Status } from '../../model/Status';
 import { SearchResult } from '../../model/SearchResult';
+import { TaskChangeEvent } from '../../model/TaskChangeEvent';
 import { Router, RouterModule } from '@angular/router';
 import { MatCardModule } from '@angular/material/card';
 import { MatFormFieldModule } from '@angular/material/form-field';
@@ -41,7 +42,7 @@ import { CategoryService } from '../../service/category.service';
     MatRadioModule,
   ],
 })
-export class TaskListComponent implements OnInit {
+export class TaskListComponent implements OnInit, OnDestroy {
   searchForm: FormGroup;
   users: User[] = [];
   tasks: Task[] = [];
@@ -51,6 +52,7 @@ export class TaskListComponent implements OnInit {
   loading = false;
   offset = 0;
   numberOfResults = 0;
+  changes: EventSource | null = null;
 
   constructor(
     private fb: FormBuilder,
@@ -76,6 +78,39 @@ export class TaskListComponent implements OnInit {
     await this.searchTasks();
     this.users = await this.userService.getAllUsers();
     this.categories = await this.categoryService.getEveryCategory();
+    this.watchChanges();
+  }
+
+  ngOnDestroy() {
+    this.changes?.close();
+  }
+
+  watchChanges() {
+    this.changes = this.taskService.watchTaskChanges();
+    this.changes.addEventListener('UPDATED', (message) =>
+      this.patchTask(JSON.parse((message as MessageEvent).data))
+    );
+    for (const type of ['CREATED', 'DELETED', 'RESYNC']) {
+      this.changes.addEventListener(type, () => this.searchTasks());
+    }
+  }
+
+  patchTask(event: TaskChangeEvent) {
+    const changed = event.task;
+    if (!changed) {
+      return;
+    }
+    this.tasks = this.tasks.map((t) =>
+      t.id === changed.id
+        ? {
+            ...t,
+            description: changed.description,
+            status: changed.status,
+            priority: changed.priority,
+            dueDate: changed.dueDate,
+          }
+        : t
+    );
   }
 
   async populateDB() {
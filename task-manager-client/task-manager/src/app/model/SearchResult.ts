@@ -4,4 +4,6 @@ export interface SearchResult {
   numberOfResults: number;
   currentOffset: number;
   tasks: Task[];
+  nextCursor?: string | null;
+  hasNext?: boolean;
 }
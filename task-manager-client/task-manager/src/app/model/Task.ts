@@ -13,4 +13,5 @@ export interface Task {
   dueDate?: string;
   createdAt?: string;
   category?: Category | null;
+  version?: number;
 }
@@ -0,0 +1,16 @@
+import { Status } from './Status';
+import { Priority } from './Priority';
+
+export interface TaskChangeEvent {
+  type: 'CREATED' | 'UPDATED' | 'DELETED' | 'RESYNC';
+  taskId?: number;
+  task?: {
+    id: number;
+    description: string;
+    status: Status;
+    priority: Priority;
+    dueDate: string;
+    assigneeId?: number;
+    categoryId?: number;
+  };
+}
@@ -54,4 +54,8 @@ export class ApiService {
   delete<T>(url: string): Promise<T> {
     return this.request<T>(url, { method: 'DELETE' });
   }
+
+  events(url: string): EventSource {
+    return new EventSource(`${this.baseUrl}${url}`, { withCredentials: true });
+  }
 }
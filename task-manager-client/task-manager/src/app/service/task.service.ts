@@ -44,6 +44,10 @@ export class TaskService {
     return this.apiService.put<Task>(`/api/tasks/${id}`, task);
   }
 
+  watchTaskChanges(): EventSource {
+    return this.apiService.events('/api/tasks/changes');
+  }
+
   deleteTask(id: number): Promise<void> {
     return this.apiService.delete<void>(`/api/tasks/${id}`);
   }
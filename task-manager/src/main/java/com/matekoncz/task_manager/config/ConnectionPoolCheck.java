@@ -0,0 +1,80 @@
+package com.matekoncz.task_manager.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Component
+public class ConnectionPoolCheck {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolCheck.class);
+
+    private static final int ACTIVITY_WRITER_THREADS = 1;
+
+    private final DataSource dataSource;
+    private final ObjectProvider<Executor> applicationTaskExecutor;
+    private final ThreadPoolExecutor passwordHashingExecutor;
+    private final int requestThreads;
+    private final boolean virtualThreads;
+
+    public ConnectionPoolCheck(DataSource dataSource,
+            @Qualifier("applicationTaskExecutor") ObjectProvider<Executor> applicationTaskExecutor,
+            @Qualifier("passwordHashingExecutor") ThreadPoolExecutor passwordHashingExecutor,
+            @Value("${server.tomcat.threads.max:200}") int requestThreads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.dataSource = dataSource;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.requestThreads = requestThreads;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkPoolSize() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            String warning = check(hikari.getMaximumPoolSize(), requestThreads,
+                    asyncThreads(applicationTaskExecutor.getIfAvailable()),
+                    passwordHashingExecutor.getMaximumPoolSize() + ACTIVITY_WRITER_THREADS, virtualThreads);
+            if (warning != null) {
+                logger.warn(warning);
+            }
+        }
+    }
+
+    public static String check(int poolSize, int requestThreads, int asyncThreads, int backgroundThreads,
+            boolean virtualThreads) {
+        if (virtualThreads) {
+            return "Virtual threads are enabled, so the number of concurrent requests is not limited by a thread pool "
+                    + "and the connection pool size (" + poolSize + ") is the limit on database concurrency; "
+                    + "requests beyond it wait up to spring.datasource.hikari.connection-timeout for a connection.";
+        }
+        long threads = (long) requestThreads + asyncThreads + backgroundThreads;
+        if (poolSize >= threads) {
+            return null;
+        }
+        return "Connection pool size (" + poolSize + ") is smaller than the threads that can hold a connection ("
+                + requestThreads + " request, " + asyncThreads + " async, " + backgroundThreads + " background); "
+                + "requests will wait for connections under load. Set spring.datasource.hikari.maximum-pool-size, "
+                + "server.tomcat.threads.max or spring.task.execution.pool.*, or use the performance profile.";
+    }
+
+    public static int asyncThreads(Executor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            return pool.getQueueCapacity() == Integer.MAX_VALUE ? pool.getCorePoolSize() : pool.getMaxPoolSize();
+        }
+        return 0;
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.task.TaskBoardCounters;
+import com.matekoncz.task_manager.service.task.TaskService;
 import com.matekoncz.task_manager.service.user.UserService;
 
 @Configuration
@@ -19,4 +21,14 @@ public class DataInitializer {
             }
         };
     }
+
+    @Bean
+    CommandLineRunner buildTaskSearchIndex(TaskService taskService) {
+        return args -> taskService.rebuildSearchIndex();
+    }
+
+    @Bean
+    CommandLineRunner buildTaskBoardCounters(TaskBoardCounters boardCounters) {
+        return args -> boardCounters.rebuild();
+    }
 }
@@ -1,27 +1,28 @@
 package com.matekoncz.task_manager.controller;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matekoncz.task_manager.config.AuthTokenFilter;
 import com.matekoncz.task_manager.exceptions.auth.WrongUsernameOrPasswordException;
 import com.matekoncz.task_manager.exceptions.user.UserNotFoundException;
-import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.model.PasswordHashingStatistics;
 import com.matekoncz.task_manager.model.UserDto;
+import com.matekoncz.task_manager.service.auth.AuthTokenService;
 import com.matekoncz.task_manager.service.user.Credentials;
 import com.matekoncz.task_manager.service.user.UserService;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.CookieClearingLogoutHandler;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
-import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.web.bind.annotation.*;
 import java.io.IOException;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -30,29 +31,33 @@ public class AuthController {
     private final String COOKIE_NAME = "JSESSIONID";
 
     private final UserService userService;
-    private final ObjectMapper objectMapper;
+    private final AuthTokenService authTokenService;
+    private final boolean stateless;
 
-    public AuthController(UserService userService, ObjectMapper objectMapper) {
+    public AuthController(UserService userService, AuthTokenService authTokenService,
+            @Value("${task-manager.auth.stateless:false}") boolean stateless) {
         this.userService = userService;
-        this.objectMapper = objectMapper;
+        this.authTokenService = authTokenService;
+        this.stateless = stateless;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<UserDto> login(HttpServletRequest request, @RequestBody String credentialsJson)
-            throws IOException, UserNotFoundException, WrongUsernameOrPasswordException {
-        Credentials credentials = objectMapper.readValue(credentialsJson, Credentials.class);
-        User user = userService.authenticate(credentials.getUsername(), credentials.getPassword());
-
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user,
-                credentials.getPassword(),
-                List.of(new SimpleGrantedAuthority("ROLE_USER")));
-
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    public CompletableFuture<ResponseEntity<UserDto>> login(@RequestBody Credentials credentials) {
+        return userService.authenticate(credentials.getUsername(), credentials.getPassword()).thenApply(user -> {
+            UserDto principal = userService.toUserDto(user);
+            if (stateless) {
+                return ResponseEntity.ok()
+                        .header(HttpHeaders.AUTHORIZATION,
+                                AuthTokenFilter.BEARER_PREFIX + authTokenService.issueToken(principal))
+                        .body(principal);
+            }
+            return ResponseEntity.ok(principal);
+        });
+    }
 
-        request.getSession(true).setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
-                SecurityContextHolder.getContext());
-        return ResponseEntity.ok(userService.toUserDto(user));
+    @GetMapping("/hashing")
+    public ResponseEntity<PasswordHashingStatistics> getPasswordHashingStatistics() {
+        return ResponseEntity.ok(userService.getPasswordHashingStatistics());
     }
 
     @DeleteMapping("/logout")
@@ -63,7 +68,10 @@ public class AuthController {
             new SecurityContextLogoutHandler().logout(request, response, authentication);
             new CookieClearingLogoutHandler(COOKIE_NAME).logout(request, response, authentication);
         }
-        request.getSession().invalidate();
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.matekoncz.task_manager.controller;
 
 import com.matekoncz.task_manager.exceptions.category.CategoryNotFoundException;
+import com.matekoncz.task_manager.model.CacheStatistics;
 import com.matekoncz.task_manager.model.Category;
 import com.matekoncz.task_manager.service.category.CategoryService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -32,9 +35,21 @@ public class CategoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories() {
+    public ResponseEntity<List<Category>> getAllCategories(WebRequest request) {
+        String version = categoryService.getCategoriesVersion();
+        if (request.checkNotModified(version)) {
+            return null;
+        }
         List<Category> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(version)
+                .body(categories);
+    }
+
+    @GetMapping("/cache")
+    public ResponseEntity<CacheStatistics> getCacheStatistics() {
+        return ResponseEntity.ok(categoryService.getCacheStatistics());
     }
 
     @DeleteMapping("/{id}")
@@ -1,20 +1,45 @@
 package com.matekoncz.task_manager.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskActivityStatistics;
+import com.matekoncz.task_manager.model.TaskChangeFeedStatistics;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.TaskRequest;
 import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.model.UserDto;
 import com.matekoncz.task_manager.service.task.SearchResult;
+import com.matekoncz.task_manager.service.task.TaskActivityPage;
+import com.matekoncz.task_manager.service.task.TaskBatchResult;
+import com.matekoncz.task_manager.service.task.TaskBoard;
+import com.matekoncz.task_manager.service.task.TaskChangeSubscription;
 import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.task.TaskSummarySearchResult;
+import com.matekoncz.task_manager.exceptions.task.TaskBatchIsTooLargeException;
 import com.matekoncz.task_manager.exceptions.task.TaskCanNotBeCreatedException;
 import com.matekoncz.task_manager.exceptions.task.TaskCanNotBeUpdatedException;
+import com.matekoncz.task_manager.exceptions.task.TaskCursorIsInvalidException;
 import com.matekoncz.task_manager.exceptions.task.TaskNotFoundException;
+import com.matekoncz.task_manager.exceptions.task.TaskVersionConflictException;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -22,48 +47,163 @@ public class TaskController {
 
     private final TaskService taskService;
     private final ObjectMapper objectMapper;
+    private final Duration changesTimeout;
 
-    public TaskController(TaskService taskService, ObjectMapper objectMapper) {
+    public TaskController(TaskService taskService, ObjectMapper objectMapper,
+            @Value("${task-manager.changes.timeout:PT30M}") Duration changesTimeout) {
         this.taskService = taskService;
         this.objectMapper = objectMapper;
+        this.changesTimeout = changesTimeout;
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long id) throws TaskNotFoundException {
+    public ResponseEntity<Task> getTaskById(@PathVariable Long id, WebRequest request) throws TaskNotFoundException {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(String.valueOf(taskService.getTaskVersion(id)))) {
+            return null;
+        }
         Task task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(String.valueOf(task.getVersion()))
+                .body(task);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Iterable<Task>> getAllTasks() {
-        Iterable<Task> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<StreamingResponseBody> getAllTasks() {
+        ObjectWriter taskWriter = taskExportWriter();
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.writeStartArray();
+            taskService.exportTasksByFilter(new TaskFilter(), task -> taskWriter.writeValue(generator, task));
+            generator.writeEndArray();
+            generator.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @PostMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasksByFilter(@RequestBody TaskFilter filter) {
+        ObjectWriter taskWriter = taskExportWriter();
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.setRootValueSeparator(null);
+            taskService.exportTasksByFilter(filter, task -> {
+                taskWriter.writeValue(generator, task);
+                generator.writeRaw('\n');
+            });
+            generator.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private ObjectWriter taskExportWriter() {
+        return objectMapper.writerFor(Task.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @PostMapping("/all")
     public ResponseEntity<SearchResult> listTasksByFilter(@RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(defaultValue = "") String orderBy,
+            @RequestParam(defaultValue = "true") boolean ascending,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestBody TaskFilter filter) throws TaskCursorIsInvalidException {
+        SearchResult searchResult = cursor == null
+                ? taskService.listTaskByFilter(filter, offset, pageSize, orderBy, ascending, withTotal)
+                : taskService.listTaskByFilterAfter(filter, cursor, pageSize, orderBy, ascending);
+        return ResponseEntity.ok(searchResult);
+    }
+
+    @PostMapping(value = "/all", params = "projection=summary")
+    public ResponseEntity<TaskSummarySearchResult> listTaskSummariesByFilter(
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int pageSize,
             @RequestParam(defaultValue = "") String orderBy,
             @RequestParam(defaultValue = "true") boolean ascending,
-            @RequestBody String filterTaskJson) throws IOException {
-        Task filterTask = objectMapper.readValue(filterTaskJson, Task.class);
-        SearchResult searchResult = taskService.listTaskByFilter(filterTask, offset, orderBy, ascending);
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestBody TaskFilter filter) {
+        TaskSummarySearchResult searchResult = taskService.listTaskSummariesByFilter(filter, offset, pageSize,
+                orderBy, ascending, withTotal);
         return ResponseEntity.ok(searchResult);
     }
 
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToChanges(@ModelAttribute TaskFilter filter) throws IOException {
+        SseEmitter emitter = new SseEmitter(changesTimeout.toMillis());
+        emitter.send(SseEmitter.event().comment("subscribed"));
+        TaskChangeSubscription subscription = taskService.subscribeToChanges(filter,
+                event -> emitter.send(SseEmitter.event().name(event.getType().name()).data(event)));
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> taskService.unsubscribeFromChanges(subscription));
+        emitter.onError(e -> taskService.unsubscribeFromChanges(subscription));
+        return emitter;
+    }
+
+    @GetMapping("/changes/statistics")
+    public ResponseEntity<TaskChangeFeedStatistics> getChangeFeedStatistics() {
+        return ResponseEntity.ok(taskService.getChangeFeedStatistics());
+    }
+
+    @GetMapping("/{id}/activity")
+    public ResponseEntity<TaskActivityPage> getTaskActivity(@PathVariable Long id,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int pageSize) {
+        return ResponseEntity.ok(taskService.getTaskActivity(id, offset, pageSize));
+    }
+
+    @GetMapping("/activity/statistics")
+    public ResponseEntity<TaskActivityStatistics> getActivityStatistics() {
+        return ResponseEntity.ok(taskService.getActivityStatistics());
+    }
+
+    @PostMapping("/board")
+    public ResponseEntity<TaskBoard> getBoard(@RequestBody TaskFilter filter) {
+        return ResponseEntity.ok(taskService.getBoard(filter));
+    }
+
     @PostMapping
-    public ResponseEntity<Task> createTask(Authentication authentication, @RequestBody String taskJson)
-            throws IOException, TaskCanNotBeCreatedException {
-        Task task = objectMapper.readValue(taskJson, Task.class);
-        task.setCreator((User) authentication.getPrincipal());
+    public ResponseEntity<Task> createTask(Authentication authentication, @RequestBody TaskRequest taskRequest)
+            throws TaskCanNotBeCreatedException {
+        Task task = taskRequest.toTask();
+        task.setId(null);
+        task.setCreator(toCreator(authentication));
         task.setCreatedAt(LocalDate.now());
         Task createdTask = taskService.createTask(task);
         return ResponseEntity.ok(createdTask);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskBatchResult>> createTasks(Authentication authentication,
+            @RequestBody List<TaskRequest> taskRequests) throws TaskBatchIsTooLargeException {
+        List<Task> tasks = taskRequests.stream().map(TaskRequest::toTask).toList();
+        User creator = toCreator(authentication);
+        LocalDate createdAt = LocalDate.now();
+        for (Task task : tasks) {
+            task.setId(null);
+            task.setCreator(creator);
+            task.setCreatedAt(createdAt);
+        }
+        return ResponseEntity.ok(taskService.createTasks(tasks));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<TaskBatchResult>> updateTasks(@RequestBody List<TaskRequest> taskRequests)
+            throws TaskBatchIsTooLargeException {
+        List<Task> tasks = taskRequests.stream().map(TaskRequest::toTask).toList();
+        return ResponseEntity.ok(taskService.updateTasks(tasks));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<TaskBatchResult>> deleteTasks(@RequestBody List<Long> ids)
+            throws TaskBatchIsTooLargeException {
+        return ResponseEntity.ok(taskService.deleteTasks(ids));
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Task> updateTask(@PathVariable Long id, @RequestBody String taskJson)
-            throws IOException, TaskNotFoundException, TaskCanNotBeUpdatedException {
-        Task updatedTask = objectMapper.readValue(taskJson, Task.class);
+    public ResponseEntity<Task> updateTask(@PathVariable Long id, @RequestBody TaskRequest taskRequest)
+            throws TaskNotFoundException, TaskCanNotBeUpdatedException, TaskVersionConflictException {
+        Task updatedTask = taskRequest.toTask();
         Task task = taskService.updateTask(id, updatedTask);
         return ResponseEntity.ok(task);
     }
@@ -73,4 +213,9 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    private User toCreator(Authentication authentication) {
+        UserDto principal = (UserDto) authentication.getPrincipal();
+        return new User(principal.getId(), principal.getUsername(), null);
+    }
 }
@@ -1,19 +1,23 @@
 package com.matekoncz.task_manager.controller;
 
+import com.matekoncz.task_manager.exceptions.auth.PasswordHashingIsBusyException;
 import com.matekoncz.task_manager.exceptions.user.UserCanNotBeCreatedException;
 import com.matekoncz.task_manager.exceptions.user.UserNameIsNotUniqueException;
+import com.matekoncz.task_manager.model.CacheStatistics;
 import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.model.UserDto;
+import com.matekoncz.task_manager.service.user.Credentials;
 import com.matekoncz.task_manager.service.user.UserService;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.context.request.WebRequest;
 
-import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -21,24 +25,33 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
-    private final ObjectMapper objectMapper;
 
-    public UserController(UserService userService, ObjectMapper objectMapper) {
+    public UserController(UserService userService) {
         this.userService = userService;
-        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/register")
-    public ResponseEntity<com.matekoncz.task_manager.model.UserDto> createUser(@RequestBody String userJson)
-            throws IOException, UserCanNotBeCreatedException, UserNameIsNotUniqueException {
-        User user = objectMapper.readValue(userJson, User.class);
-        User createdUser = userService.createUser(user);
+    public ResponseEntity<UserDto> createUser(@RequestBody Credentials credentials)
+            throws UserCanNotBeCreatedException, UserNameIsNotUniqueException, PasswordHashingIsBusyException {
+        User createdUser = userService.createUser(
+                new User(null, credentials.getUsername(), credentials.getPassword()));
         return ResponseEntity.ok(userService.toUserDto(createdUser));
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<com.matekoncz.task_manager.model.UserDto>> getAllUsers() {
-        List<User> users = userService.getAllUsers();
-        return ResponseEntity.ok(userService.toUserDtoList(users));
+    public ResponseEntity<List<UserDto>> getAllUsers(WebRequest request) {
+        String version = userService.getUsersVersion();
+        if (request.checkNotModified(version)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(version)
+                .body(userService.getAllUserDtos());
+    }
+
+    @GetMapping("/cache")
+    public ResponseEntity<CacheStatistics> getCacheStatistics() {
+        return ResponseEntity.ok(userService.getCacheStatistics());
     }
 }
\ No newline at end of file
@@ -3,17 +3,28 @@ package com.matekoncz.task_manager.controller.exceptions;
 import com.matekoncz.task_manager.exceptions.user.UserCanNotBeCreatedException;
 import com.matekoncz.task_manager.exceptions.user.UserNameIsNotUniqueException;
 import com.matekoncz.task_manager.exceptions.user.UserNotFoundException;
+import com.matekoncz.task_manager.exceptions.auth.PasswordHashingIsBusyException;
 import com.matekoncz.task_manager.exceptions.auth.WrongUsernameOrPasswordException;
 import com.matekoncz.task_manager.exceptions.category.CategoryNotFoundException;
+import com.matekoncz.task_manager.exceptions.task.TaskBatchIsTooLargeException;
 import com.matekoncz.task_manager.exceptions.task.TaskCanNotBeCreatedException;
 import com.matekoncz.task_manager.exceptions.task.TaskCanNotBeUpdatedException;
+import com.matekoncz.task_manager.exceptions.task.TaskCursorIsInvalidException;
 import com.matekoncz.task_manager.exceptions.task.TaskNotFoundException;
+import com.matekoncz.task_manager.exceptions.task.TaskVersionConflictException;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -39,6 +50,30 @@ public class DefaultExceptionHandler {
         return buildResponse(HttpStatus.NOT_ACCEPTABLE, ex.getMessage());
     }
 
+    @ExceptionHandler(TaskVersionConflictException.class)
+    @ResponseBody
+    public ResponseEntity<Map<String, String>> handleTaskVersionConflictException(TaskVersionConflictException ex) {
+        return buildResponse(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseBody
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        return buildResponse(HttpStatus.CONFLICT, new TaskVersionConflictException().getMessage());
+    }
+
+    @ExceptionHandler(TaskCursorIsInvalidException.class)
+    @ResponseBody
+    public ResponseEntity<Map<String, String>> handleTaskCursorIsInvalidException(TaskCursorIsInvalidException ex) {
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(TaskBatchIsTooLargeException.class)
+    @ResponseBody
+    public ResponseEntity<Map<String, String>> handleTaskBatchIsTooLargeException(TaskBatchIsTooLargeException ex) {
+        return buildResponse(HttpStatus.PAYLOAD_TOO_LARGE, ex.getMessage());
+    }
+
     @ExceptionHandler(CategoryNotFoundException.class)
     @ResponseBody
     public ResponseEntity<Map<String, String>> handleCategoryNotFoundException(CategoryNotFoundException ex) {
@@ -51,6 +86,12 @@ public class DefaultExceptionHandler {
         return buildResponse(HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
 
+    @ExceptionHandler(PasswordHashingIsBusyException.class)
+    @ResponseBody
+    public ResponseEntity<Map<String, String>> handlePasswordHashingIsBusy(PasswordHashingIsBusyException ex) {
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    }
+
     @ExceptionHandler(UserNotFoundException.class)
     @ResponseBody
     public ResponseEntity<Map<String, String>> handleUserNotFoundException(UserNotFoundException ex) {
@@ -69,12 +110,38 @@ public class DefaultExceptionHandler {
         return buildResponse(HttpStatus.CONFLICT, ex.getMessage());
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    @ResponseBody
+    public ResponseEntity<Map<String, String>> handleHttpMessageNotReadable(HttpMessageNotReadableException ex) {
+        return buildResponse(HttpStatus.BAD_REQUEST, "The request body is malformed.");
+    }
+
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    @ResponseBody
+    public ResponseEntity<Map<String, String>> handleAsyncRequestTimeout(AsyncRequestTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    @ResponseBody
+    public ResponseEntity<Map<String, String>> handleAsyncRequestNotUsable(AsyncRequestNotUsableException ex) {
+        return ResponseEntity.noContent().build();
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseBody
-    public ResponseEntity<Map<String, String>> handleOtherExceptions(Exception ex) {
+    public ResponseEntity<Map<String, String>> handleOtherExceptions(Exception ex, HttpServletResponse response) {
+        if (isEventStream(response)) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
         return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred.");
     }
 
+    private boolean isEventStream(HttpServletResponse response) {
+        return response.getContentType() != null
+                && MediaType.TEXT_EVENT_STREAM.isCompatibleWith(MediaType.parseMediaType(response.getContentType()));
+    }
+
     private ResponseEntity<Map<String, String>> buildResponse(HttpStatus status, String message) {
         Map<String, String> body = new HashMap<>();
         body.put("error", message);
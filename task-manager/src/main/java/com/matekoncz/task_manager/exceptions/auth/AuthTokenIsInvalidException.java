@@ -0,0 +1,7 @@
+package com.matekoncz.task_manager.exceptions.auth;
+
+public class AuthTokenIsInvalidException extends Exception {
+    public AuthTokenIsInvalidException() {
+        super("Authentication token is invalid or expired.");
+    }
+}
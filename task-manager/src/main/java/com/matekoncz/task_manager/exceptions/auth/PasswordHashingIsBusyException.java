@@ -0,0 +1,7 @@
+package com.matekoncz.task_manager.exceptions.auth;
+
+public class PasswordHashingIsBusyException extends Exception {
+    public PasswordHashingIsBusyException() {
+        super("Too many sign-in attempts, please try again later.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.matekoncz.task_manager.exceptions.task;
+
+public class TaskBatchIsTooLargeException extends TaskException {
+    public TaskBatchIsTooLargeException() {
+        super("Task batch is too large.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.matekoncz.task_manager.exceptions.task;
+
+public class TaskCursorIsInvalidException extends TaskException {
+    public TaskCursorIsInvalidException() {
+        super("Task cursor is invalid.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.matekoncz.task_manager.exceptions.task;
+
+public class TaskVersionConflictException extends TaskException {
+    public TaskVersionConflictException() {
+        super("Task was modified by someone else.");
+    }
+}
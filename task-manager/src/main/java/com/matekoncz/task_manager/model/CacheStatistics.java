@@ -0,0 +1,39 @@
+package com.matekoncz.task_manager.model;
+
+public class CacheStatistics {
+    private long hits;
+    private long misses;
+    private int size;
+
+    public CacheStatistics() {}
+
+    public CacheStatistics(long hits, long misses, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,49 @@
+package com.matekoncz.task_manager.model;
+
+public class PasswordHashingStatistics {
+    private int queueDepth;
+    private int activeCount;
+    private long completedCount;
+    private long rejectedCount;
+
+    public PasswordHashingStatistics() {}
+
+    public PasswordHashingStatistics(int queueDepth, int activeCount, long completedCount, long rejectedCount) {
+        this.queueDepth = queueDepth;
+        this.activeCount = activeCount;
+        this.completedCount = completedCount;
+        this.rejectedCount = rejectedCount;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public void setActiveCount(int activeCount) {
+        this.activeCount = activeCount;
+    }
+
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    public void setCompletedCount(long completedCount) {
+        this.completedCount = completedCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(long rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+}
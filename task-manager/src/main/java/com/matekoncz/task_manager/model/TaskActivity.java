@@ -0,0 +1,92 @@
+package com.matekoncz.task_manager.model;
+
+import java.time.LocalDateTime;
+
+public class TaskActivity {
+    private Long id;
+    private Long taskId;
+    private Long actorId;
+    private LocalDateTime changedAt;
+    private TaskChangeType type;
+    private String field;
+    private String oldValue;
+    private String newValue;
+
+    public TaskActivity() {
+    }
+
+    public TaskActivity(Long taskId, Long actorId, LocalDateTime changedAt, TaskChangeType type, String field,
+            String oldValue, String newValue) {
+        this.taskId = taskId;
+        this.actorId = actorId;
+        this.changedAt = changedAt;
+        this.type = type;
+        this.field = field;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(Long actorId) {
+        this.actorId = actorId;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public TaskChangeType getType() {
+        return type;
+    }
+
+    public void setType(TaskChangeType type) {
+        this.type = type;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public String getOldValue() {
+        return oldValue;
+    }
+
+    public void setOldValue(String oldValue) {
+        this.oldValue = oldValue;
+    }
+
+    public String getNewValue() {
+        return newValue;
+    }
+
+    public void setNewValue(String newValue) {
+        this.newValue = newValue;
+    }
+}
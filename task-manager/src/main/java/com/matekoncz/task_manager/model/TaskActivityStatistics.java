@@ -0,0 +1,50 @@
+package com.matekoncz.task_manager.model;
+
+public class TaskActivityStatistics {
+    private int queued;
+    private long written;
+    private long dropped;
+    private long failed;
+
+    public TaskActivityStatistics() {
+    }
+
+    public TaskActivityStatistics(int queued, long written, long dropped, long failed) {
+        this.queued = queued;
+        this.written = written;
+        this.dropped = dropped;
+        this.failed = failed;
+    }
+
+    public int getQueued() {
+        return queued;
+    }
+
+    public void setQueued(int queued) {
+        this.queued = queued;
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public void setWritten(long written) {
+        this.written = written;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public void setDropped(long dropped) {
+        this.dropped = dropped;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+}
@@ -0,0 +1,40 @@
+package com.matekoncz.task_manager.model;
+
+public class TaskChangeEvent {
+    private TaskChangeType type;
+    private Long taskId;
+    private TaskSummary task;
+
+    public TaskChangeEvent() {
+    }
+
+    public TaskChangeEvent(TaskChangeType type, Long taskId, TaskSummary task) {
+        this.type = type;
+        this.taskId = taskId;
+        this.task = task;
+    }
+
+    public TaskChangeType getType() {
+        return type;
+    }
+
+    public void setType(TaskChangeType type) {
+        this.type = type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public TaskSummary getTask() {
+        return task;
+    }
+
+    public void setTask(TaskSummary task) {
+        this.task = task;
+    }
+}
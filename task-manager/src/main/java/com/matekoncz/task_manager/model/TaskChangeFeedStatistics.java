@@ -0,0 +1,40 @@
+package com.matekoncz.task_manager.model;
+
+public class TaskChangeFeedStatistics {
+    private int subscribers;
+    private long delivered;
+    private long dropped;
+
+    public TaskChangeFeedStatistics() {
+    }
+
+    public TaskChangeFeedStatistics(int subscribers, long delivered, long dropped) {
+        this.subscribers = subscribers;
+        this.delivered = delivered;
+        this.dropped = dropped;
+    }
+
+    public int getSubscribers() {
+        return subscribers;
+    }
+
+    public void setSubscribers(int subscribers) {
+        this.subscribers = subscribers;
+    }
+
+    public long getDelivered() {
+        return delivered;
+    }
+
+    public void setDelivered(long delivered) {
+        this.delivered = delivered;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public void setDropped(long dropped) {
+        this.dropped = dropped;
+    }
+}
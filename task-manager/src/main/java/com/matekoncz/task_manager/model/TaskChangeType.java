@@ -0,0 +1,8 @@
+package com.matekoncz.task_manager.model;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    RESYNC
+}
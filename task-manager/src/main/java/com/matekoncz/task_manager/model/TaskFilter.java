@@ -0,0 +1,162 @@
+package com.matekoncz.task_manager.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public class TaskFilter {
+    private String description;
+    private Status status;
+    private List<Status> statuses;
+    private Priority priority;
+    private List<Priority> priorities;
+    private LocalDate dueDate;
+    private LocalDate dueDateFrom;
+    private LocalDate dueDateTo;
+    private LocalDate createdAtFrom;
+    private LocalDate createdAtTo;
+    private UserDto assignee;
+    private boolean unassigned;
+    private UserDto creator;
+    private Category category;
+    private List<Long> categoryIds;
+
+    public TaskFilter() {
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public List<Status> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(List<Status> statuses) {
+        this.statuses = statuses;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public List<Priority> getPriorities() {
+        return priorities;
+    }
+
+    public void setPriorities(List<Priority> priorities) {
+        this.priorities = priorities;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public LocalDate getDueDateFrom() {
+        return dueDateFrom;
+    }
+
+    public void setDueDateFrom(LocalDate dueDateFrom) {
+        this.dueDateFrom = dueDateFrom;
+    }
+
+    public LocalDate getDueDateTo() {
+        return dueDateTo;
+    }
+
+    public void setDueDateTo(LocalDate dueDateTo) {
+        this.dueDateTo = dueDateTo;
+    }
+
+    public LocalDate getCreatedAtFrom() {
+        return createdAtFrom;
+    }
+
+    public void setCreatedAtFrom(LocalDate createdAtFrom) {
+        this.createdAtFrom = createdAtFrom;
+    }
+
+    public LocalDate getCreatedAtTo() {
+        return createdAtTo;
+    }
+
+    public void setCreatedAtTo(LocalDate createdAtTo) {
+        this.createdAtTo = createdAtTo;
+    }
+
+    public UserDto getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(UserDto assignee) {
+        this.assignee = assignee;
+    }
+
+    public boolean isUnassigned() {
+        return unassigned;
+    }
+
+    public void setUnassigned(boolean unassigned) {
+        this.unassigned = unassigned;
+    }
+
+    public UserDto getCreator() {
+        return creator;
+    }
+
+    public void setCreator(UserDto creator) {
+        this.creator = creator;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+
+    public List<Long> getCategoryIds() {
+        return categoryIds;
+    }
+
+    public void setCategoryIds(List<Long> categoryIds) {
+        this.categoryIds = categoryIds;
+    }
+
+    @JsonIgnore
+    public Long getAssigneeId() {
+        return assignee == null ? null : assignee.getId();
+    }
+
+    @JsonIgnore
+    public Long getCreatorId() {
+        return creator == null ? null : creator.getId();
+    }
+
+    @JsonIgnore
+    public Long getCategoryId() {
+        return category == null ? null : category.getId();
+    }
+}
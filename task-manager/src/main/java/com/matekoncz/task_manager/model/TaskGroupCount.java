@@ -0,0 +1,50 @@
+package com.matekoncz.task_manager.model;
+
+public class TaskGroupCount {
+    private Status status;
+    private Priority priority;
+    private Long categoryId;
+    private long count;
+
+    public TaskGroupCount() {
+    }
+
+    public TaskGroupCount(Status status, Priority priority, Long categoryId, long count) {
+        this.status = status;
+        this.priority = priority;
+        this.categoryId = categoryId;
+        this.count = count;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,98 @@
+package com.matekoncz.task_manager.model;
+
+import java.time.LocalDate;
+
+public class TaskRequest {
+    private Long id;
+    private String description;
+    private Status status;
+    private Priority priority;
+    private LocalDate dueDate;
+    private UserDto assignee;
+    private Category category;
+    private Long version;
+
+    public TaskRequest() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public UserDto getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(UserDto assignee) {
+        this.assignee = assignee;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Task toTask() {
+        Task task = new Task();
+        task.setId(id);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setAssignee(toUser(assignee));
+        task.setCategory(category);
+        task.setVersion(version);
+        return task;
+    }
+
+    private static User toUser(UserDto user) {
+        return user == null ? null : new User(user.getId(), user.getUsername(), null);
+    }
+}
@@ -0,0 +1,83 @@
+package com.matekoncz.task_manager.model;
+
+import java.time.LocalDate;
+
+public class TaskSummary {
+    private Long id;
+    private String description;
+    private Status status;
+    private Priority priority;
+    private LocalDate dueDate;
+    private Long assigneeId;
+    private Long categoryId;
+
+    public TaskSummary() {
+    }
+
+    public TaskSummary(Long id, String description, Status status, Priority priority, LocalDate dueDate,
+            Long assigneeId, Long categoryId) {
+        this.id = id;
+        this.description = description;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.assigneeId = assigneeId;
+        this.categoryId = categoryId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+}
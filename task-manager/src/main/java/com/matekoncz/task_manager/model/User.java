@@ -1,11 +1,14 @@
 package com.matekoncz.task_manager.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Column;
 
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 @Entity(name = "task_manager_user")
 public class User {
     @Id
@@ -0,0 +1,12 @@
+package com.matekoncz.task_manager.repository;
+
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskGroupCount;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TaskBoardRepository {
+    List<TaskGroupCount> countByStatusPriorityAndCategory(Specification<Task> specification);
+}
@@ -0,0 +1,40 @@
+package com.matekoncz.task_manager.repository;
+
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskGroupCount;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class TaskBoardRepositoryImpl implements TaskBoardRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskGroupCount> countByStatusPriorityAndCategory(Specification<Task> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskGroupCount> query = cb.createQuery(TaskGroupCount.class);
+        Root<Task> root = query.from(Task.class);
+        Path<Object> status = root.get("status");
+        Path<Object> priority = root.get("priority");
+        Path<Object> categoryId = root.get("category").get("id");
+        query.select(cb.construct(TaskGroupCount.class, status, priority, categoryId, cb.count(root)));
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.groupBy(status, priority, categoryId);
+        return entityManager.createQuery(query).getResultList();
+    }
+}
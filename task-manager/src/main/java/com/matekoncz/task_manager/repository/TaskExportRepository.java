@@ -0,0 +1,11 @@
+package com.matekoncz.task_manager.repository;
+
+import com.matekoncz.task_manager.model.Task;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TaskExportRepository {
+    Stream<Task> streamAll(Specification<Task> specification, int fetchSize);
+}
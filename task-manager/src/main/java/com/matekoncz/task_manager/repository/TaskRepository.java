@@ -1,8 +1,47 @@
 package com.matekoncz.task_manager.repository;
 
 import com.matekoncz.task_manager.model.Task;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TaskRepository
+        extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskSummaryRepository,
+        TaskExportRepository, TaskBoardRepository {
+
+    @Override
+    @EntityGraph("Task.withAssociations")
+    Optional<Task> findById(Long id);
+
+    @Override
+    @EntityGraph("Task.withAssociations")
+    List<Task> findAll();
+
+    @Override
+    @EntityGraph("Task.withAssociations")
+    Page<Task> findAll(Specification<Task> specification, Pageable pageable);
+
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @EntityGraph("Task.withAssociations")
+    List<Task> findAllByCategoryIdIn(Collection<Long> categoryIds);
 
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
-}
\ No newline at end of file
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.version = t.version + 1 WHERE t.category.id IN :categoryIds")
+    int incrementVersionByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds);
+}
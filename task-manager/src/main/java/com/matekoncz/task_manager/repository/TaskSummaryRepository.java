@@ -0,0 +1,11 @@
+package com.matekoncz.task_manager.repository;
+
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TaskSummaryRepository {
+    Slice<TaskSummary> findSummaries(Specification<Task> specification, Pageable pageable);
+}
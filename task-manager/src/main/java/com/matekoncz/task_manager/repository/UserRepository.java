@@ -1,7 +1,10 @@
 package com.matekoncz.task_manager.repository;
 
 import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.model.UserDto;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +12,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    @Query(value = "SELECT * FROM task_manager_user WHERE username = :username", nativeQuery = true)
-    Optional<User> findByUsername(@Param("username") String username);
-}
\ No newline at end of file
+    Optional<User> findByUsername(String username);
+
+    @Query("SELECT new com.matekoncz.task_manager.model.UserDto(u.id, u.username) FROM task_manager_user u WHERE u.id IN :ids")
+    List<UserDto> findUserDtosByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.matekoncz.task_manager.model.UserDto(u.id, u.username) FROM task_manager_user u")
+    List<UserDto> findAllUserDtos();
+}
@@ -0,0 +1,90 @@
+package com.matekoncz.task_manager.service.auth;
+
+import com.matekoncz.task_manager.exceptions.auth.AuthTokenIsInvalidException;
+import com.matekoncz.task_manager.model.UserDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AuthTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SEPARATOR = ".";
+    private static final String FIELD_SEPARATOR = ":";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    @Autowired
+    public AuthTokenService(@Value("${task-manager.auth.token-secret:}") String secret,
+            @Value("${task-manager.auth.token-ttl:PT8H}") Duration timeToLive) {
+        this(secret, timeToLive, Clock.systemUTC());
+    }
+
+    public AuthTokenService(String secret, Duration timeToLive, Clock clock) {
+        this.key = secret.isBlank() ? null : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    public boolean isConfigured() {
+        return key != null;
+    }
+
+    public String issueToken(UserDto user) {
+        long expiresAt = clock.instant().plus(timeToLive).getEpochSecond();
+        String payload = ENCODER.encodeToString((user.getId() + FIELD_SEPARATOR + expiresAt + FIELD_SEPARATOR
+                + user.getUsername()).getBytes(StandardCharsets.UTF_8));
+        return payload + SEPARATOR + ENCODER.encodeToString(sign(payload));
+    }
+
+    public UserDto verifyToken(String token) throws AuthTokenIsInvalidException {
+        int separator = token.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new AuthTokenIsInvalidException();
+        }
+        String payload = token.substring(0, separator);
+        try {
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                throw new AuthTokenIsInvalidException();
+            }
+            String[] fields = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split(FIELD_SEPARATOR, 3);
+            if (fields.length != 3 || Long.parseLong(fields[1]) <= clock.instant().getEpochSecond()) {
+                throw new AuthTokenIsInvalidException();
+            }
+            return new UserDto(Long.valueOf(fields[0]), fields[2]);
+        } catch (IllegalArgumentException e) {
+            throw new AuthTokenIsInvalidException();
+        }
+    }
+
+    private byte[] sign(String payload) {
+        if (key == null) {
+            throw new IllegalStateException("task-manager.auth.token-secret is not configured");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
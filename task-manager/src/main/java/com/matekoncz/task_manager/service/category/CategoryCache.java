@@ -0,0 +1,96 @@
+package com.matekoncz.task_manager.service.category;
+
+import com.matekoncz.task_manager.model.Category;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CategoryCache {
+
+    private record Entry(Category category, long generation) {
+    }
+
+    private record Snapshot(List<Category> categories, long generation) {
+    }
+
+    private final Map<Long, Entry> categoriesById = new ConcurrentHashMap<>();
+    private volatile Snapshot allCategories;
+    private final AtomicLong generation = new AtomicLong();
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final int maxEntries;
+
+    public CategoryCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Category get(Long id) {
+        Entry entry = categoriesById.get(id);
+        if (entry == null || entry.generation() != generation.get()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.category();
+    }
+
+    public List<Category> getAll() {
+        Snapshot snapshot = allCategories;
+        if (snapshot == null || snapshot.generation() != generation.get()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return snapshot.categories();
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public String currentVersion() {
+        return epoch + "-" + generation.get();
+    }
+
+    public void put(Category category, long observedGeneration) {
+        if (observedGeneration != generation.get()) {
+            return;
+        }
+        if (categoriesById.size() >= maxEntries) {
+            categoriesById.clear();
+        }
+        categoriesById.put(category.getId(), new Entry(category, observedGeneration));
+    }
+
+    public void putAll(List<Category> categories, long observedGeneration) {
+        if (observedGeneration != generation.get() || categories.size() > maxEntries) {
+            return;
+        }
+        categoriesById.clear();
+        for (Category category : categories) {
+            categoriesById.put(category.getId(), new Entry(category, observedGeneration));
+        }
+        allCategories = new Snapshot(List.copyOf(categories), observedGeneration);
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        allCategories = null;
+        categoriesById.clear();
+    }
+
+    public int size() {
+        return categoriesById.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+}
@@ -0,0 +1,16 @@
+package com.matekoncz.task_manager.service.category;
+
+import java.util.Collection;
+
+public class CategoryDeletionEvent {
+
+    private final Collection<Long> categoryIds;
+
+    public CategoryDeletionEvent(Collection<Long> categoryIds) {
+        this.categoryIds = categoryIds;
+    }
+
+    public Collection<Long> getCategoryIds() {
+        return categoryIds;
+    }
+}
@@ -1,38 +1,89 @@
 package com.matekoncz.task_manager.service.category;
 
 import com.matekoncz.task_manager.exceptions.category.CategoryNotFoundException;
+import com.matekoncz.task_manager.model.CacheStatistics;
 import com.matekoncz.task_manager.model.Category;
 import com.matekoncz.task_manager.repository.CategoryRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.matekoncz.task_manager.service.TransactionCallbacks.afterCommit;
 
 @Service
 public class CategoryService {
+    private static final int CATEGORY_CACHE_MAX_ENTRIES = 1000;
+
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryCache categoryCache = new CategoryCache(CATEGORY_CACHE_MAX_ENTRIES);
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional
     public Category createCategory(Category category) {
-        return categoryRepository.save(category);
+        Category created = categoryRepository.save(category);
+        afterCommit(categoryCache::invalidate);
+        return created;
     }
 
     public Category getCategoryById(Long id) throws CategoryNotFoundException {
-        Optional<Category> category = categoryRepository.findById(id);
-        return category.orElseThrow(CategoryNotFoundException::new);
+        Category cached = categoryCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = categoryCache.currentGeneration();
+        Category category = categoryRepository.findById(id).orElseThrow(CategoryNotFoundException::new);
+        categoryCache.put(category, generation);
+        return category;
+    }
+
+    public Set<Long> getExistingCategoryIds(Collection<Long> ids) {
+        List<Category> categories = categoryCache.getAll();
+        if (categories != null) {
+            return categories.stream().map(Category::getId).filter(ids::contains).collect(Collectors.toSet());
+        }
+        return new HashSet<>(categoryRepository.findExistingIds(ids));
     }
 
     public List<Category> getAllCategories() {
-        return categoryRepository.findAll();
+        List<Category> cached = categoryCache.getAll();
+        if (cached != null) {
+            return cached;
+        }
+        long generation = categoryCache.currentGeneration();
+        List<Category> categories = categoryRepository.findAll();
+        categoryCache.putAll(categories, generation);
+        return categories;
     }
 
+    public String getCategoriesVersion() {
+        return categoryCache.currentVersion();
+    }
+
+    @Transactional
     public void deleteCategory(Long id) {
+        eventPublisher.publishEvent(new CategoryDeletionEvent(List.of(id)));
         categoryRepository.deleteById(id);
+        afterCommit(categoryCache::invalidate);
     }
 
+    @Transactional
     public void deleteAll() {
+        eventPublisher.publishEvent(new CategoryDeletionEvent(categoryRepository.findAllIds()));
         categoryRepository.deleteAll();
+        afterCommit(categoryCache::invalidate);
+    }
+
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(categoryCache.getHitCount(), categoryCache.getMissCount(), categoryCache.size());
     }
 }
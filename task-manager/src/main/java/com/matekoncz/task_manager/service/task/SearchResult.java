@@ -5,8 +5,12 @@ import java.util.List;
 import com.matekoncz.task_manager.model.Task;
 
 public class SearchResult {
+    public static final long UNKNOWN_NUMBER_OF_RESULTS = -1;
+
     private long numberOfResults;
     private List<Task> tasks;
+    private String nextCursor;
+    private boolean hasNext;
 
     public SearchResult() {
     }
@@ -16,6 +20,19 @@ public class SearchResult {
         this.tasks = tasks;
     }
 
+    public SearchResult(long numberOfResults, List<Task> tasks, boolean hasNext) {
+        this.numberOfResults = numberOfResults;
+        this.tasks = tasks;
+        this.hasNext = hasNext;
+    }
+
+    public SearchResult(long numberOfResults, List<Task> tasks, String nextCursor) {
+        this.numberOfResults = numberOfResults;
+        this.tasks = tasks;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
     public long getNumberOfResults() {
         return numberOfResults;
     }
@@ -31,4 +48,20 @@ public class SearchResult {
     public void setTasks(List<Task> tasks) {
         this.tasks = tasks;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
 }
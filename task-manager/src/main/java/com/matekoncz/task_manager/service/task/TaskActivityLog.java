@@ -0,0 +1,220 @@
+package com.matekoncz.task_manager.service.task;
+
+import com.matekoncz.task_manager.model.Category;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskActivity;
+import com.matekoncz.task_manager.model.TaskActivityStatistics;
+import com.matekoncz.task_manager.model.TaskChangeType;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.model.UserDto;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskActivityLog implements DisposableBean {
+
+    private static final String INSERT_ACTIVITY = """
+            INSERT INTO task_activity (task_id, actor_id, changed_at, change_type, field, old_value, new_value)
+            VALUES (:taskId, :actorId, :changedAt, :type, :field, :oldValue, :newValue)
+            """;
+
+    private static final String SELECT_ACTIVITY = """
+            SELECT id, task_id, actor_id, changed_at, change_type, field, old_value, new_value
+            FROM task_activity WHERE task_id = :taskId ORDER BY id DESC LIMIT :limit OFFSET :offset
+            """;
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final BlockingQueue<TaskActivity> queue;
+    private final int batchSize;
+    private final Duration enqueueTimeout;
+    private final Duration shutdownTimeout;
+    private final Thread writer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean running = true;
+
+    public TaskActivityLog(NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${task-manager.activity.queue-capacity:10000}") int queueCapacity,
+            @Value("${task-manager.activity.batch-size:500}") int batchSize,
+            @Value("${task-manager.activity.enqueue-timeout:PT1S}") Duration enqueueTimeout,
+            @Value("${task-manager.activity.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.enqueueTimeout = enqueueTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.writer = Thread.ofPlatform().name("task-activity-writer").daemon().start(this::write);
+    }
+
+    public void recordCreated(Collection<Task> tasks) {
+        Long actorId = currentActorId();
+        LocalDateTime now = LocalDateTime.now();
+        for (Task task : tasks) {
+            enqueue(new TaskActivity(task.getId(), actorId, now, TaskChangeType.CREATED, null, null, null));
+        }
+    }
+
+    public void recordUpdated(List<Task> previousTasks, List<Task> tasks) {
+        Long actorId = currentActorId();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task previous = previousTasks.get(i);
+            Task task = tasks.get(i);
+            recordField(previous, task, "description", Task::getDescription, actorId, now);
+            recordField(previous, task, "status", Task::getStatus, actorId, now);
+            recordField(previous, task, "priority", Task::getPriority, actorId, now);
+            recordField(previous, task, "dueDate", Task::getDueDate, actorId, now);
+            recordField(previous, task, "assignee", t -> userId(t.getAssignee()), actorId, now);
+            recordField(previous, task, "category", t -> categoryId(t.getCategory()), actorId, now);
+        }
+    }
+
+    public void recordDeleted(Collection<Long> ids) {
+        Long actorId = currentActorId();
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : ids) {
+            enqueue(new TaskActivity(id, actorId, now, TaskChangeType.DELETED, null, null, null));
+        }
+    }
+
+    public List<TaskActivity> findByTaskId(Long taskId, int offset, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("taskId", taskId)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SELECT_ACTIVITY, parameters, (rs, rowNum) -> {
+            TaskActivity activity = new TaskActivity(rs.getLong("task_id"), rs.getObject("actor_id", Long.class),
+                    rs.getTimestamp("changed_at").toLocalDateTime(), TaskChangeType.valueOf(rs.getString("change_type")),
+                    rs.getString("field"), rs.getString("old_value"), rs.getString("new_value"));
+            activity.setId(rs.getLong("id"));
+            return activity;
+        });
+    }
+
+    public boolean flush(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    public TaskActivityStatistics getStatistics() {
+        return new TaskActivityStatistics(queue.size(), written.get(), dropped.get(), failed.get());
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.join(shutdownTimeout.toMillis());
+    }
+
+    private <T> void recordField(Task previous, Task task, String field, Function<Task, T> value, Long actorId,
+            LocalDateTime now) {
+        T oldValue = value.apply(previous);
+        T newValue = value.apply(task);
+        if (!Objects.equals(oldValue, newValue)) {
+            enqueue(new TaskActivity(task.getId(), actorId, now, TaskChangeType.UPDATED, field,
+                    Objects.toString(oldValue, null), Objects.toString(newValue, null)));
+        }
+    }
+
+    private void enqueue(TaskActivity activity) {
+        if (!running) {
+            dropped.incrementAndGet();
+            return;
+        }
+        pending.incrementAndGet();
+        try {
+            if (queue.offer(activity) || queue.offer(activity, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pending.decrementAndGet();
+        dropped.incrementAndGet();
+    }
+
+    private void write() {
+        List<TaskActivity> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                TaskActivity first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                insert(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            } finally {
+                pending.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void insert(List<TaskActivity> batch) {
+        SqlParameterSource[] parameters = new SqlParameterSource[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            TaskActivity activity = batch.get(i);
+            parameters[i] = new MapSqlParameterSource()
+                    .addValue("taskId", activity.getTaskId())
+                    .addValue("actorId", activity.getActorId())
+                    .addValue("changedAt", Timestamp.valueOf(activity.getChangedAt()))
+                    .addValue("type", activity.getType().name())
+                    .addValue("field", activity.getField())
+                    .addValue("oldValue", activity.getOldValue())
+                    .addValue("newValue", activity.getNewValue());
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_ACTIVITY, parameters);
+            written.addAndGet(batch.size());
+        } catch (DataAccessException e) {
+            failed.addAndGet(batch.size());
+        }
+    }
+
+    private Long currentActorId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UserDto user ? user.getId() : null;
+    }
+
+    private Long userId(User user) {
+        return user == null ? null : user.getId();
+    }
+
+    private Long categoryId(Category category) {
+        return category == null ? null : category.getId();
+    }
+}
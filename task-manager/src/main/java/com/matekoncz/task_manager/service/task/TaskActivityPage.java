@@ -0,0 +1,34 @@
+package com.matekoncz.task_manager.service.task;
+
+import java.util.List;
+
+import com.matekoncz.task_manager.model.TaskActivity;
+
+public class TaskActivityPage {
+    private List<TaskActivity> entries;
+    private boolean hasNext;
+
+    public TaskActivityPage() {
+    }
+
+    public TaskActivityPage(List<TaskActivity> entries, boolean hasNext) {
+        this.entries = entries;
+        this.hasNext = hasNext;
+    }
+
+    public List<TaskActivity> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<TaskActivity> entries) {
+        this.entries = entries;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
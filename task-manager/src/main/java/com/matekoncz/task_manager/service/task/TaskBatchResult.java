@@ -0,0 +1,58 @@
+package com.matekoncz.task_manager.service.task;
+
+public class TaskBatchResult {
+    private int index;
+    private Long id;
+    private boolean success;
+    private String error;
+
+    public TaskBatchResult() {
+    }
+
+    public TaskBatchResult(int index, Long id, boolean success, String error) {
+        this.index = index;
+        this.id = id;
+        this.success = success;
+        this.error = error;
+    }
+
+    public static TaskBatchResult success(int index, Long id) {
+        return new TaskBatchResult(index, id, true, null);
+    }
+
+    public static TaskBatchResult failure(int index, Long id, String error) {
+        return new TaskBatchResult(index, id, false, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
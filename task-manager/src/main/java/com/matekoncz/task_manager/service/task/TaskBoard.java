@@ -0,0 +1,64 @@
+package com.matekoncz.task_manager.service.task;
+
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+public class TaskBoard {
+    private long total;
+    private Map<Status, Map<Priority, Long>> byStatusAndPriority = new EnumMap<>(Status.class);
+    private Map<Long, Long> byCategory = new HashMap<>();
+    private long uncategorized;
+
+    public TaskBoard() {
+    }
+
+    public void addStatusAndPriority(Status status, Priority priority, long count) {
+        byStatusAndPriority.computeIfAbsent(status, key -> new EnumMap<>(Priority.class))
+                .merge(priority, count, Long::sum);
+        total += count;
+    }
+
+    public void addCategory(Long categoryId, long count) {
+        if (categoryId == null) {
+            uncategorized += count;
+        } else {
+            byCategory.merge(categoryId, count, Long::sum);
+        }
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<Status, Map<Priority, Long>> getByStatusAndPriority() {
+        return byStatusAndPriority;
+    }
+
+    public void setByStatusAndPriority(Map<Status, Map<Priority, Long>> byStatusAndPriority) {
+        this.byStatusAndPriority = byStatusAndPriority;
+    }
+
+    public Map<Long, Long> getByCategory() {
+        return byCategory;
+    }
+
+    public void setByCategory(Map<Long, Long> byCategory) {
+        this.byCategory = byCategory;
+    }
+
+    public long getUncategorized() {
+        return uncategorized;
+    }
+
+    public void setUncategorized(long uncategorized) {
+        this.uncategorized = uncategorized;
+    }
+}
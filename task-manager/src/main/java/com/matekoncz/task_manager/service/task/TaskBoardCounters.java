@@ -0,0 +1,112 @@
+package com.matekoncz.task_manager.service.task;
+
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Component
+public class TaskBoardCounters {
+
+    private static final String ADJUST_STATUS_PRIORITY_COUNTS = """
+            MERGE INTO task_status_priority_count c
+            USING (SELECT status, priority, COUNT(*) AS n FROM task WHERE id IN (:ids) GROUP BY status, priority) d
+            ON c.status = d.status AND c.priority = d.priority
+            WHEN MATCHED THEN UPDATE SET task_count = c.task_count + :sign * d.n
+            WHEN NOT MATCHED THEN INSERT (status, priority, task_count) VALUES (d.status, d.priority, :sign * d.n)
+            """;
+
+    private static final String ADJUST_CATEGORY_COUNTS = """
+            MERGE INTO task_category_count c
+            USING (SELECT category_id, COUNT(*) AS n FROM task
+                    WHERE id IN (:ids) AND category_id IS NOT NULL GROUP BY category_id) d
+            ON c.category_id = d.category_id
+            WHEN MATCHED THEN UPDATE SET task_count = c.task_count + :sign * d.n
+            WHEN NOT MATCHED THEN INSERT (category_id, task_count) VALUES (d.category_id, :sign * d.n)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TaskBoardCounters(NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${task-manager.board.counters.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void add(Collection<Long> ids) {
+        if (enabled && !ids.isEmpty()) {
+            entityManager.flush();
+            adjust(ids, 1);
+        }
+    }
+
+    public void remove(Collection<Long> ids) {
+        if (enabled && !ids.isEmpty()) {
+            adjust(ids, -1);
+        }
+    }
+
+    public void clear() {
+        if (enabled) {
+            jdbcTemplate.update("DELETE FROM task_status_priority_count", Collections.emptyMap());
+            jdbcTemplate.update("DELETE FROM task_category_count", Collections.emptyMap());
+        }
+    }
+
+    @Transactional
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        clear();
+        jdbcTemplate.update("INSERT INTO task_status_priority_count (status, priority, task_count) "
+                + "SELECT status, priority, COUNT(*) FROM task GROUP BY status, priority", Collections.emptyMap());
+        jdbcTemplate.update("INSERT INTO task_category_count (category_id, task_count) "
+                + "SELECT category_id, COUNT(*) FROM task WHERE category_id IS NOT NULL GROUP BY category_id",
+                Collections.emptyMap());
+    }
+
+    @Transactional(readOnly = true)
+    public TaskBoard read() {
+        TaskBoard board = new TaskBoard();
+        jdbcTemplate.query("SELECT status, priority, task_count FROM task_status_priority_count "
+                + "WHERE task_count > 0", Collections.emptyMap(),
+                row -> {
+                    board.addStatusAndPriority(Status.values()[row.getInt("status")],
+                            Priority.values()[row.getInt("priority")], row.getLong("task_count"));
+                });
+        long categorized = 0;
+        for (var row : jdbcTemplate.queryForList("SELECT category_id, task_count FROM task_category_count "
+                + "WHERE task_count > 0", Collections.emptyMap())) {
+            long count = ((Number) row.get("task_count")).longValue();
+            board.addCategory(((Number) row.get("category_id")).longValue(), count);
+            categorized += count;
+        }
+        board.addCategory(null, board.getTotal() - categorized);
+        return board;
+    }
+
+    private void adjust(Collection<Long> ids, int sign) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource().addValue("ids", ids).addValue("sign", sign);
+        jdbcTemplate.update(ADJUST_STATUS_PRIORITY_COUNTS, parameters);
+        jdbcTemplate.update(ADJUST_CATEGORY_COUNTS, parameters);
+    }
+}
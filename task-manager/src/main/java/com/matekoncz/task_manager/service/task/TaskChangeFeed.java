@@ -0,0 +1,195 @@
+package com.matekoncz.task_manager.service.task;
+
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskChangeEvent;
+import com.matekoncz.task_manager.model.TaskChangeFeedStatistics;
+import com.matekoncz.task_manager.model.TaskChangeType;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.TaskSummary;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskChangeFeed implements DisposableBean {
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final int bufferSize;
+    private final Set<TaskChangeSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public TaskChangeFeed(TaskSearchIndex taskSearchIndex,
+            @Value("${task-manager.changes.buffer-size:256}") int bufferSize) {
+        this.taskSearchIndex = taskSearchIndex;
+        this.bufferSize = bufferSize;
+    }
+
+    public TaskChangeSubscription subscribe(TaskFilter filter, TaskChangeListener listener) {
+        TaskChangeSubscription subscription = new TaskChangeSubscription(filter,
+                taskSearchIndex.analyzeText(filter.getDescription()), listener, bufferSize);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public void unsubscribe(TaskChangeSubscription subscription) {
+        if (subscriptions.remove(subscription)) {
+            delivered.addAndGet(subscription.getDeliveredCount());
+            dropped.addAndGet(subscription.getDroppedCount());
+        }
+    }
+
+    public void publishCreated(Collection<Task> tasks) {
+        for (Task task : tasks) {
+            TaskChangeEvent event = new TaskChangeEvent(TaskChangeType.CREATED, task.getId(), toSummary(task));
+            publish(event, subscription -> matches(subscription, task));
+        }
+    }
+
+    public void publishUpdated(List<Task> previousTasks, List<Task> tasks) {
+        for (int i = 0; i < tasks.size(); i++) {
+            Task previous = previousTasks.get(i);
+            Task task = tasks.get(i);
+            TaskChangeEvent updated = new TaskChangeEvent(TaskChangeType.UPDATED, task.getId(), toSummary(task));
+            TaskChangeEvent removed = new TaskChangeEvent(TaskChangeType.DELETED, task.getId(), null);
+            for (TaskChangeSubscription subscription : subscriptions) {
+                if (matches(subscription, task)) {
+                    deliver(subscription, updated);
+                } else if (matches(subscription, previous)) {
+                    deliver(subscription, removed);
+                }
+            }
+        }
+    }
+
+    public void publishDeleted(Collection<Long> ids) {
+        for (Long id : ids) {
+            publish(new TaskChangeEvent(TaskChangeType.DELETED, id, null), subscription -> true);
+        }
+    }
+
+    public void publishResync() {
+        publish(new TaskChangeEvent(TaskChangeType.RESYNC, null, null), subscription -> true);
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    public TaskChangeFeedStatistics getStatistics() {
+        long currentDelivered = delivered.get();
+        long currentDropped = dropped.get();
+        for (TaskChangeSubscription subscription : subscriptions) {
+            currentDelivered += subscription.getDeliveredCount();
+            currentDropped += subscription.getDroppedCount();
+        }
+        return new TaskChangeFeedStatistics(subscriptions.size(), currentDelivered, currentDropped);
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdownNow();
+        subscriptions.clear();
+    }
+
+    private void publish(TaskChangeEvent event, Predicate<TaskChangeSubscription> recipients) {
+        for (TaskChangeSubscription subscription : subscriptions) {
+            if (recipients.test(subscription)) {
+                deliver(subscription, event);
+            }
+        }
+    }
+
+    private void deliver(TaskChangeSubscription subscription, TaskChangeEvent event) {
+        subscription.offer(event);
+        if (subscription.startDraining()) {
+            try {
+                senders.execute(() -> drain(subscription));
+            } catch (RejectedExecutionException e) {
+                unsubscribe(subscription);
+            }
+        }
+    }
+
+    private void drain(TaskChangeSubscription subscription) {
+        try {
+            do {
+                subscription.deliverPending();
+            } while (subscription.stopDraining());
+        } catch (IOException | RuntimeException e) {
+            unsubscribe(subscription);
+        }
+    }
+
+    private boolean matches(TaskChangeSubscription subscription, Task task) {
+        TaskFilter filter = subscription.getFilter();
+        if (filter.getStatus() != null && filter.getStatus() != task.getStatus()) {
+            return false;
+        }
+        if (filter.getStatuses() != null && !filter.getStatuses().contains(task.getStatus())) {
+            return false;
+        }
+        if (filter.getPriority() != null && filter.getPriority() != task.getPriority()) {
+            return false;
+        }
+        if (filter.getPriorities() != null && !filter.getPriorities().contains(task.getPriority())) {
+            return false;
+        }
+        if (filter.getDueDate() != null && !filter.getDueDate().equals(task.getDueDate())) {
+            return false;
+        }
+        if (filter.getDueDateFrom() != null && task.getDueDate().isBefore(filter.getDueDateFrom())) {
+            return false;
+        }
+        if (filter.getDueDateTo() != null && task.getDueDate().isAfter(filter.getDueDateTo())) {
+            return false;
+        }
+        if (filter.getCreatedAtFrom() != null && task.getCreatedAt().isBefore(filter.getCreatedAtFrom())) {
+            return false;
+        }
+        if (filter.getCreatedAtTo() != null && task.getCreatedAt().isAfter(filter.getCreatedAtTo())) {
+            return false;
+        }
+        if (filter.getAssigneeId() != null
+                && (task.getAssignee() == null || !filter.getAssigneeId().equals(task.getAssignee().getId()))) {
+            return false;
+        }
+        if (filter.isUnassigned() && task.getAssignee() != null) {
+            return false;
+        }
+        if (filter.getCreatorId() != null && !filter.getCreatorId().equals(task.getCreator().getId())) {
+            return false;
+        }
+        Long categoryId = task.getCategory() == null ? null : task.getCategory().getId();
+        if (filter.getCategoryId() != null && !filter.getCategoryId().equals(categoryId)) {
+            return false;
+        }
+        if (filter.getCategoryIds() != null && (categoryId == null || !filter.getCategoryIds().contains(categoryId))) {
+            return false;
+        }
+        if (subscription.getTerms().isEmpty()) {
+            return filter.getDescription() == null || filter.getDescription().isBlank()
+                    || task.getDescription().toLowerCase().contains(filter.getDescription().toLowerCase());
+        }
+        return taskSearchIndex.matchesTerms(subscription.getTerms(), task.getDescription());
+    }
+
+    private TaskSummary toSummary(Task task) {
+        return new TaskSummary(task.getId(), task.getDescription(), task.getStatus(), task.getPriority(),
+                task.getDueDate(), task.getAssignee() == null ? null : task.getAssignee().getId(),
+                task.getCategory() == null ? null : task.getCategory().getId());
+    }
+}
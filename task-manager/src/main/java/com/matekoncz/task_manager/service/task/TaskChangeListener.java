@@ -0,0 +1,10 @@
+package com.matekoncz.task_manager.service.task;
+
+import com.matekoncz.task_manager.model.TaskChangeEvent;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface TaskChangeListener {
+    void onChange(TaskChangeEvent event) throws IOException;
+}
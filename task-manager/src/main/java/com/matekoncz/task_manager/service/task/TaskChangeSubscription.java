@@ -0,0 +1,83 @@
+package com.matekoncz.task_manager.service.task;
+
+import com.matekoncz.task_manager.model.TaskChangeEvent;
+import com.matekoncz.task_manager.model.TaskChangeType;
+import com.matekoncz.task_manager.model.TaskFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TaskChangeSubscription {
+
+    private static final TaskChangeEvent RESYNC = new TaskChangeEvent(TaskChangeType.RESYNC, null, null);
+
+    private final TaskFilter filter;
+    private final List<String> terms;
+    private final TaskChangeListener listener;
+    private final BlockingQueue<TaskChangeEvent> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    TaskChangeSubscription(TaskFilter filter, List<String> terms, TaskChangeListener listener, int bufferSize) {
+        this.filter = filter;
+        this.terms = terms;
+        this.listener = listener;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    TaskFilter getFilter() {
+        return filter;
+    }
+
+    List<String> getTerms() {
+        return terms;
+    }
+
+    boolean offer(TaskChangeEvent event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+        dropped.addAndGet(1 + buffer.size());
+        buffer.clear();
+        overflowed.set(true);
+        return false;
+    }
+
+    boolean startDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    boolean stopDraining() {
+        draining.set(false);
+        return hasPending() && startDraining();
+    }
+
+    void deliverPending() throws IOException {
+        while (true) {
+            TaskChangeEvent event = overflowed.getAndSet(false) ? RESYNC : buffer.poll();
+            if (event == null) {
+                return;
+            }
+            listener.onChange(event);
+            delivered.incrementAndGet();
+        }
+    }
+
+    private boolean hasPending() {
+        return overflowed.get() || !buffer.isEmpty();
+    }
+
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,53 @@
+package com.matekoncz.task_manager.service.task;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TaskCountCache {
+
+    private record Entry(long count, long generation, long expiresAt) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long timeToLiveNanos;
+    private final int maxEntries;
+
+    public TaskCountCache(Duration timeToLive, int maxEntries) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public Long get(String filterKey) {
+        Entry entry = entries.get(filterKey);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.generation() != generation.get() || entry.expiresAt() - System.nanoTime() <= 0) {
+            entries.remove(filterKey, entry);
+            return null;
+        }
+        return entry.count();
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public void put(String filterKey, long count, long observedGeneration) {
+        if (observedGeneration != generation.get()) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+        entries.put(filterKey, new Entry(count, observedGeneration, System.nanoTime() + timeToLiveNanos));
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+}
@@ -0,0 +1,76 @@
+package com.matekoncz.task_manager.service.task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import com.matekoncz.task_manager.exceptions.task.TaskCursorIsInvalidException;
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+
+public class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String orderBy;
+    private final Comparable<?> sortKey;
+    private final Long id;
+
+    private TaskCursor(String orderBy, Comparable<?> sortKey, Long id) {
+        this.orderBy = orderBy;
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public static TaskCursor of(Task task, String orderBy) {
+        Comparable<?> sortKey = switch (orderBy) {
+            case "dueDate" -> task.getDueDate();
+            case "status" -> task.getStatus();
+            case "priority" -> task.getPriority();
+            default -> null;
+        };
+        return new TaskCursor(orderBy, sortKey, task.getId());
+    }
+
+    public static TaskCursor after(Long id) {
+        return new TaskCursor("", null, id);
+    }
+
+    public static TaskCursor decode(String token, String orderBy) throws TaskCursorIsInvalidException {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3 || !parts[0].equals(orderBy)) {
+                throw new TaskCursorIsInvalidException();
+            }
+            Comparable<?> sortKey = switch (orderBy) {
+                case "dueDate" -> LocalDate.parse(parts[1]);
+                case "status" -> Status.valueOf(parts[1]);
+                case "priority" -> Priority.valueOf(parts[1]);
+                default -> null;
+            };
+            return new TaskCursor(orderBy, sortKey, Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new TaskCursorIsInvalidException();
+        }
+    }
+
+    public String encode() {
+        String sortKeyString = sortKey == null ? "" : sortKey instanceof Enum<?> e ? e.name() : sortKey.toString();
+        String raw = orderBy + SEPARATOR + sortKeyString + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getOrderBy() {
+        return orderBy;
+    }
+
+    public Comparable<?> getSortKey() {
+        return sortKey;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,10 @@
+package com.matekoncz.task_manager.service.task;
+
+import java.io.IOException;
+
+import com.matekoncz.task_manager.model.Task;
+
+@FunctionalInterface
+public interface TaskExportWriter {
+    void write(Task task) throws IOException;
+}
@@ -0,0 +1,27 @@
+package com.matekoncz.task_manager.service.task;
+
+import java.util.List;
+
+public class TaskSearchHits {
+    private final List<Long> ids;
+    private final long totalHits;
+    private final boolean hasNext;
+
+    public TaskSearchHits(List<Long> ids, long totalHits, boolean hasNext) {
+        this.ids = ids;
+        this.totalHits = totalHits;
+        this.hasNext = hasNext;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
@@ -0,0 +1,372 @@
+package com.matekoncz.task_manager.service.task;
+
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.TaskGroupCount;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntField;
+import org.apache.lucene.document.LongField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.FieldExistsQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskSearchIndex implements DisposableBean {
+
+    private static final String ID = "id";
+    private static final String DESCRIPTION = "description";
+    private static final String STATUS = "status";
+    private static final String PRIORITY = "priority";
+    private static final String DUE_DATE = "dueDate";
+    private static final String CREATED_AT = "createdAt";
+    private static final String ASSIGNEE = "assignee";
+    private static final String CREATOR = "creator";
+    private static final String CATEGORY = "category";
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public TaskSearchIndex() throws IOException {
+        writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    public void index(Collection<Task> tasks) {
+        try {
+            for (Task task : tasks) {
+                writer.deleteDocuments(LongField.newExactQuery(ID, task.getId()));
+                writer.addDocument(toDocument(task));
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void remove(Collection<Long> ids) {
+        try {
+            for (Long id : ids) {
+                writer.deleteDocuments(LongField.newExactQuery(ID, id));
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void clear() {
+        try {
+            writer.deleteAll();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isSearchable(String text) {
+        return text != null && !analyze(text).isEmpty();
+    }
+
+    public List<String> analyzeText(String text) {
+        return text == null ? List.of() : analyze(text);
+    }
+
+    public boolean matchesTerms(List<String> terms, String description) {
+        List<String> descriptionTerms = analyze(description);
+        return terms.stream().allMatch(term -> descriptionTerms.stream().anyMatch(word -> word.startsWith(term)));
+    }
+
+    public TaskSearchHits search(String text, TaskFilter filter, int offset, int limit, String orderBy, boolean ascending,
+            boolean withTotal) {
+        Query query = createQuery(text, filter);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, offset + limit + 1, createSort(orderBy, ascending), true);
+                List<Long> ids = readIds(searcher, topDocs.scoreDocs, offset, limit);
+                boolean hasNext = topDocs.scoreDocs.length > offset + limit;
+                long totalHits = withTotal ? searcher.count(query) : SearchResult.UNKNOWN_NUMBER_OF_RESULTS;
+                return new TaskSearchHits(ids, totalHits, hasNext);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public TaskSearchHits searchAfter(String text, TaskFilter filter, TaskCursor after, int limit, String orderBy,
+            boolean ascending) {
+        Query query = createQuery(text, filter);
+        Sort sort = orderBy.isEmpty() ? new Sort(new SortedNumericSortField(ID, SortField.Type.LONG, !ascending))
+                : createSort(orderBy, ascending);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = after == null
+                        ? searcher.search(query, limit + 1, sort)
+                        : searcher.searchAfter(createAfter(searcher, after), query, limit + 1, sort);
+                List<Long> ids = readIds(searcher, topDocs.scoreDocs, 0, limit);
+                return new TaskSearchHits(ids, SearchResult.UNKNOWN_NUMBER_OF_RESULTS, topDocs.scoreDocs.length > limit);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long count(String text, TaskFilter filter) {
+        Query query = createQuery(text, filter);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.count(query);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<TaskGroupCount> countGroups(String text, TaskFilter filter) {
+        Query query = createQuery(text, filter);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                Map<GroupKey, Long> counts = searcher.search(query, new GroupCountCollectorManager());
+                return counts.entrySet().stream()
+                        .map(entry -> new TaskGroupCount(Status.values()[entry.getKey().status()],
+                                Priority.values()[entry.getKey().priority()], entry.getKey().categoryId(),
+                                entry.getValue()))
+                        .toList();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    private Document toDocument(Task task) {
+        Document document = new Document();
+        document.add(new LongField(ID, task.getId(), Field.Store.YES));
+        document.add(new TextField(DESCRIPTION, task.getDescription(), Field.Store.NO));
+        document.add(new IntField(STATUS, task.getStatus().ordinal(), Field.Store.NO));
+        document.add(new IntField(PRIORITY, task.getPriority().ordinal(), Field.Store.NO));
+        document.add(new LongField(DUE_DATE, task.getDueDate().toEpochDay(), Field.Store.NO));
+        if (task.getCreatedAt() != null) {
+            document.add(new LongField(CREATED_AT, task.getCreatedAt().toEpochDay(), Field.Store.NO));
+        }
+        document.add(new LongField(CREATOR, task.getCreator().getId(), Field.Store.NO));
+        if (task.getAssignee() != null) {
+            document.add(new LongField(ASSIGNEE, task.getAssignee().getId(), Field.Store.NO));
+        }
+        if (task.getCategory() != null) {
+            document.add(new LongField(CATEGORY, task.getCategory().getId(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private Query createQuery(String text, TaskFilter filter) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : analyze(text)) {
+            query.add(new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD)
+                    .add(new PrefixQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+        if (filter.getStatus() != null) {
+            query.add(IntField.newExactQuery(STATUS, filter.getStatus().ordinal()), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getStatuses() != null) {
+            query.add(IntField.newSetQuery(STATUS, filter.getStatuses().stream().mapToInt(Enum::ordinal).toArray()),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (filter.getPriority() != null) {
+            query.add(IntField.newExactQuery(PRIORITY, filter.getPriority().ordinal()), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getPriorities() != null) {
+            query.add(IntField.newSetQuery(PRIORITY, filter.getPriorities().stream().mapToInt(Enum::ordinal)
+                    .toArray()), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getDueDate() != null) {
+            query.add(LongField.newExactQuery(DUE_DATE, filter.getDueDate().toEpochDay()),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (filter.getDueDateFrom() != null || filter.getDueDateTo() != null) {
+            query.add(createRangeQuery(DUE_DATE, filter.getDueDateFrom(), filter.getDueDateTo()),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (filter.getCreatedAtFrom() != null || filter.getCreatedAtTo() != null) {
+            query.add(createRangeQuery(CREATED_AT, filter.getCreatedAtFrom(), filter.getCreatedAtTo()),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (filter.getAssigneeId() != null) {
+            query.add(LongField.newExactQuery(ASSIGNEE, filter.getAssigneeId()), BooleanClause.Occur.FILTER);
+        }
+        if (filter.isUnassigned()) {
+            query.add(new FieldExistsQuery(ASSIGNEE), BooleanClause.Occur.MUST_NOT);
+        }
+        if (filter.getCreatorId() != null) {
+            query.add(LongField.newExactQuery(CREATOR, filter.getCreatorId()), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getCategoryId() != null) {
+            query.add(LongField.newExactQuery(CATEGORY, filter.getCategoryId()), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getCategoryIds() != null) {
+            query.add(LongField.newSetQuery(CATEGORY, filter.getCategoryIds().stream().mapToLong(Long::longValue)
+                    .toArray()), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private Query createRangeQuery(String field, LocalDate from, LocalDate to) {
+        return LongField.newRangeQuery(field, from == null ? Long.MIN_VALUE : from.toEpochDay(),
+                to == null ? Long.MAX_VALUE : to.toEpochDay());
+    }
+
+    private Sort createSort(String orderBy, boolean ascending) {
+        SortField id = new SortedNumericSortField(ID, SortField.Type.LONG, !ascending);
+        return switch (orderBy) {
+            case "dueDate" -> new Sort(new SortedNumericSortField(DUE_DATE, SortField.Type.LONG, !ascending), id);
+            case "status" -> new Sort(new SortedNumericSortField(STATUS, SortField.Type.INT, !ascending), id);
+            case "priority" -> new Sort(new SortedNumericSortField(PRIORITY, SortField.Type.INT, !ascending), id);
+            default -> new Sort(SortField.FIELD_SCORE, new SortedNumericSortField(ID, SortField.Type.LONG));
+        };
+    }
+
+    private FieldDoc createAfter(IndexSearcher searcher, TaskCursor after) {
+        Object id = after.getId();
+        Object[] fields = switch (after.getOrderBy()) {
+            case "dueDate" -> new Object[] { ((LocalDate) after.getSortKey()).toEpochDay(), id };
+            case "status" -> new Object[] { ((Status) after.getSortKey()).ordinal(), id };
+            case "priority" -> new Object[] { ((Priority) after.getSortKey()).ordinal(), id };
+            default -> new Object[] { id };
+        };
+        return new FieldDoc(Math.max(0, searcher.getIndexReader().maxDoc() - 1), Float.NaN, fields);
+    }
+
+    private List<Long> readIds(IndexSearcher searcher, ScoreDoc[] scoreDocs, int offset, int limit)
+            throws IOException {
+        StoredFields storedFields = searcher.storedFields();
+        List<Long> ids = new ArrayList<>();
+        for (int i = offset; i < Math.min(scoreDocs.length, offset + limit); i++) {
+            ids.add(storedFields.document(scoreDocs[i].doc).getField(ID).numericValue().longValue());
+        }
+        return ids;
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream(DESCRIPTION, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private record GroupKey(int status, int priority, Long categoryId) {
+    }
+
+    private static class GroupCountCollectorManager
+            implements CollectorManager<GroupCountCollector, Map<GroupKey, Long>> {
+
+        @Override
+        public GroupCountCollector newCollector() {
+            return new GroupCountCollector();
+        }
+
+        @Override
+        public Map<GroupKey, Long> reduce(Collection<GroupCountCollector> collectors) {
+            Map<GroupKey, Long> counts = new HashMap<>();
+            for (GroupCountCollector collector : collectors) {
+                collector.counts.forEach((key, count) -> counts.merge(key, count, Long::sum));
+            }
+            return counts;
+        }
+    }
+
+    private static class GroupCountCollector extends SimpleCollector {
+        private final Map<GroupKey, Long> counts = new HashMap<>();
+        private SortedNumericDocValues status;
+        private SortedNumericDocValues priority;
+        private SortedNumericDocValues category;
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            status = DocValues.getSortedNumeric(context.reader(), STATUS);
+            priority = DocValues.getSortedNumeric(context.reader(), PRIORITY);
+            category = DocValues.getSortedNumeric(context.reader(), CATEGORY);
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            int statusValue = status.advanceExact(doc) ? (int) status.nextValue() : 0;
+            int priorityValue = priority.advanceExact(doc) ? (int) priority.nextValue() : 0;
+            Long categoryId = category.advanceExact(doc) ? category.nextValue() : null;
+            counts.merge(new GroupKey(statusValue, priorityValue, categoryId), 1L, Long::sum);
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+}
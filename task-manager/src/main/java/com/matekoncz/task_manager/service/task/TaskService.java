@@ -1,177 +1,799 @@
 package com.matekoncz.task_manager.service.task;
 
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
 import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskActivity;
+import com.matekoncz.task_manager.model.TaskActivityStatistics;
+import com.matekoncz.task_manager.model.TaskChangeFeedStatistics;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.TaskGroupCount;
+import com.matekoncz.task_manager.model.TaskSummary;
 import com.matekoncz.task_manager.repository.TaskRepository;
 import com.matekoncz.task_manager.service.user.UserService;
+import com.matekoncz.task_manager.service.category.CategoryDeletionEvent;
 import com.matekoncz.task_manager.service.category.CategoryService;
-import com.matekoncz.task_manager.exceptions.category.CategoryNotFoundException;
+import com.matekoncz.task_manager.exceptions.task.TaskBatchIsTooLargeException;
 import com.matekoncz.task_manager.exceptions.task.TaskCanNotBeCreatedException;
 import com.matekoncz.task_manager.exceptions.task.TaskCanNotBeUpdatedException;
+import com.matekoncz.task_manager.exceptions.task.TaskCursorIsInvalidException;
 import com.matekoncz.task_manager.exceptions.task.TaskNotFoundException;
-import com.matekoncz.task_manager.exceptions.user.UserNotFoundException;
+import com.matekoncz.task_manager.exceptions.task.TaskVersionConflictException;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 
+import static com.matekoncz.task_manager.service.TransactionCallbacks.afterCommit;
+
 @Service
 public class TaskService {
 
     private static final int TASK_BATCH_SIZE = 10;
 
+    private static final int MAX_TASK_BATCH_SIZE = 100;
+
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
     private static final List<String> ALLOWED_SORT_FIELDS = List.of("dueDate", "status", "priority");
 
+    private static final List<String> TASK_ASSOCIATIONS = List.of("assignee", "creator", "category");
+
+    private static final Duration TASK_COUNT_CACHE_TIME_TO_LIVE = Duration.ofSeconds(5);
+
+    private static final int TASK_COUNT_CACHE_MAX_ENTRIES = 1000;
+
+    private static final int TASK_EXPORT_FETCH_SIZE = 500;
+
+    private static final int MAX_TASK_BATCH_ITEMS = 1000;
+
     private final TaskRepository taskRepository;
     private final UserService userService;
     private final CategoryService categoryService;
-
-    public TaskService(TaskRepository taskRepository, UserService userService, CategoryService categoryService) {
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskBoardCounters boardCounters;
+    private final TaskChangeFeed changeFeed;
+    private final TaskActivityLog activityLog;
+    private final MeterRegistry meterRegistry;
+    private final TaskCountCache countCache = new TaskCountCache(TASK_COUNT_CACHE_TIME_TO_LIVE,
+            TASK_COUNT_CACHE_MAX_ENTRIES);
+
+    public TaskService(TaskRepository taskRepository, UserService userService, CategoryService categoryService,
+            TaskSearchIndex taskSearchIndex, TaskBoardCounters boardCounters, TaskChangeFeed changeFeed,
+            TaskActivityLog activityLog, MeterRegistry meterRegistry) {
         this.taskRepository = taskRepository;
         this.userService = userService;
         this.categoryService = categoryService;
+        this.taskSearchIndex = taskSearchIndex;
+        this.boardCounters = boardCounters;
+        this.changeFeed = changeFeed;
+        this.activityLog = activityLog;
+        this.meterRegistry = meterRegistry;
     }
 
+    @Transactional
     public Task createTask(Task task) throws TaskCanNotBeCreatedException {
-        validateTask(task);
-        return taskRepository.save(task);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            validateTask(task);
+            Task created = taskRepository.save(task);
+            boardCounters.add(List.of(created.getId()));
+            afterCommit(countCache::invalidate);
+            afterCommit(() -> taskSearchIndex.index(List.of(created)));
+            afterCommit(() -> changeFeed.publishCreated(List.of(created)));
+            afterCommit(() -> activityLog.recordCreated(List.of(created)));
+            return created;
+        } finally {
+            sample.stop(timer("create"));
+        }
     }
 
     private void validateTask(Task task) throws TaskCanNotBeCreatedException {
-        validateRequiredFields(task);
-        try {
-            validateCreator(task);
-            validateCategory(task);
-        } catch (UserNotFoundException | CategoryNotFoundException e) {
+        if (!validateTasks(List.of(task)).get(0)) {
             throw new TaskCanNotBeCreatedException();
         }
     }
 
-    private void validateCategory(Task task) throws CategoryNotFoundException, TaskCanNotBeCreatedException {
-        if (task.getCategory() != null) {
-            if (categoryService.getCategoryById(task.getCategory().getId()) == null) {
-                throw new TaskCanNotBeCreatedException();
+    private List<Boolean> validateTasks(List<Task> tasks) {
+        Set<Long> existingUserIds = findExistingUserIds(tasks);
+        Set<Long> existingCategoryIds = findExistingCategoryIds(tasks);
+        return tasks.stream()
+                .map(task -> hasRequiredFields(task) && hasValidReferences(task, existingUserIds, existingCategoryIds))
+                .toList();
+    }
+
+    private Set<Long> findExistingUserIds(List<Task> tasks) {
+        Set<Long> userIds = new HashSet<>();
+        for (Task task : tasks) {
+            if (task.getCreator() != null && task.getCreator().getId() != null) {
+                userIds.add(task.getCreator().getId());
+            }
+            if (task.getAssignee() != null && task.getAssignee().getId() != null) {
+                userIds.add(task.getAssignee().getId());
             }
         }
+        return userIds.isEmpty() ? Set.of() : userService.getExistingUserIds(userIds);
     }
 
-    private void validateCreator(Task task) throws UserNotFoundException {
-        userService.getUserById(task.getCreator().getId());
-        if (task.getAssignee() != null) {
-            userService.getUserById(task.getAssignee().getId());
+    private Set<Long> findExistingCategoryIds(List<Task> tasks) {
+        Set<Long> categoryIds = new HashSet<>();
+        for (Task task : tasks) {
+            if (task.getCategory() != null && task.getCategory().getId() != null) {
+                categoryIds.add(task.getCategory().getId());
+            }
         }
+        return categoryIds.isEmpty() ? Set.of() : categoryService.getExistingCategoryIds(categoryIds);
     }
 
-    private void validateRequiredFields(Task task) throws TaskCanNotBeCreatedException {
-        if (task.getDescription() == null || task.getDescription().isBlank() || task.getStatus() == null
-                || task.getPriority() == null) {
-            throw new TaskCanNotBeCreatedException();
+    private boolean hasValidReferences(Task task, Set<Long> existingUserIds, Set<Long> existingCategoryIds) {
+        if (task.getCreator() == null || !existingUserIds.contains(task.getCreator().getId())) {
+            return false;
         }
+        if (task.getAssignee() != null && !existingUserIds.contains(task.getAssignee().getId())) {
+            return false;
+        }
+        return task.getCategory() == null || existingCategoryIds.contains(task.getCategory().getId());
     }
 
+    private boolean hasRequiredFields(Task task) {
+        return task.getDescription() != null && !task.getDescription().isBlank()
+                && task.getDescription().length() <= MAX_DESCRIPTION_LENGTH && task.getStatus() != null
+                && task.getPriority() != null && task.getDueDate() != null && task.getCreatedAt() != null;
+    }
+
+    @Transactional(readOnly = true)
     public Task getTaskById(Long id) throws TaskNotFoundException {
         return taskRepository.findById(id)
                 .orElseThrow(TaskNotFoundException::new);
     }
 
-    public Task updateTask(Long id, Task updatedTask) throws TaskNotFoundException, TaskCanNotBeUpdatedException {
-        Task task = taskRepository.findById(id)
+    @Transactional(readOnly = true)
+    public Long getTaskVersion(Long id) throws TaskNotFoundException {
+        return taskRepository.findVersionById(id)
                 .orElseThrow(TaskNotFoundException::new);
+    }
+
+    @Transactional
+    public Task updateTask(Long id, Task updatedTask)
+            throws TaskNotFoundException, TaskCanNotBeUpdatedException, TaskVersionConflictException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Task task = taskRepository.findById(id)
+                    .orElseThrow(TaskNotFoundException::new);
+            if (!hasExpectedVersion(task, updatedTask)) {
+                throw new TaskVersionConflictException();
+            }
+            try {
+                validateTask(createCandidate(task, updatedTask));
+            } catch (TaskCanNotBeCreatedException e) {
+                throw new TaskCanNotBeUpdatedException();
+            }
+            Task previous = createCandidate(task, task);
+            boardCounters.remove(List.of(id));
+            applyUpdate(task, updatedTask);
+            Task saved = taskRepository.save(task);
+            boardCounters.add(List.of(id));
+            afterCommit(countCache::invalidate);
+            afterCommit(() -> taskSearchIndex.index(List.of(saved)));
+            afterCommit(() -> changeFeed.publishUpdated(List.of(previous), List.of(saved)));
+            afterCommit(() -> activityLog.recordUpdated(List.of(previous), List.of(saved)));
+            return saved;
+        } finally {
+            sample.stop(timer("update"));
+        }
+    }
+
+    private boolean hasExpectedVersion(Task task, Task updatedTask) {
+        return updatedTask.getVersion() == null || updatedTask.getVersion().equals(task.getVersion());
+    }
+
+    private Task createCandidate(Task task, Task updatedTask) {
+        return new Task(task.getId(), updatedTask.getDescription(), updatedTask.getStatus(),
+                updatedTask.getAssignee(), task.getCreator(), updatedTask.getDueDate(), task.getCreatedAt(),
+                updatedTask.getPriority(), updatedTask.getCategory());
+    }
+
+    private void applyUpdate(Task task, Task updatedTask) {
         task.setDescription(updatedTask.getDescription());
         task.setStatus(updatedTask.getStatus());
         task.setAssignee(updatedTask.getAssignee());
         task.setDueDate(updatedTask.getDueDate());
         task.setPriority(updatedTask.getPriority());
         task.setCategory(updatedTask.getCategory());
-        try {
-            validateTask(task);
-        } catch (TaskCanNotBeCreatedException e) {
-            throw new TaskCanNotBeUpdatedException();
+    }
+
+    @Transactional
+    public List<TaskBatchResult> createTasks(List<Task> tasks) throws TaskBatchIsTooLargeException {
+        validateBatchSize(tasks.size());
+        TaskBatchResult[] results = new TaskBatchResult[tasks.size()];
+        List<Boolean> validations = validateTasks(tasks);
+        List<Task> validTasks = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (validations.get(i)) {
+                validTasks.add(tasks.get(i));
+            } else {
+                results[i] = TaskBatchResult.failure(i, null, new TaskCanNotBeCreatedException().getMessage());
+            }
+        }
+        taskRepository.saveAll(validTasks);
+        boardCounters.add(validTasks.stream().map(Task::getId).toList());
+        for (int i = 0; i < tasks.size(); i++) {
+            if (results[i] == null) {
+                results[i] = TaskBatchResult.success(i, tasks.get(i).getId());
+            }
         }
-        return taskRepository.save(task);
+        afterCommit(countCache::invalidate);
+        afterCommit(() -> taskSearchIndex.index(validTasks));
+        afterCommit(() -> changeFeed.publishCreated(validTasks));
+        afterCommit(() -> activityLog.recordCreated(validTasks));
+        return Arrays.asList(results);
     }
 
+    @Transactional
+    public List<TaskBatchResult> updateTasks(List<Task> updatedTasks) throws TaskBatchIsTooLargeException {
+        validateBatchSize(updatedTasks.size());
+        Set<Long> ids = updatedTasks.stream().map(Task::getId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, Task> existingTasks = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<Task> candidates = new ArrayList<>();
+        for (Task updatedTask : updatedTasks) {
+            Task task = existingTasks.get(updatedTask.getId());
+            candidates.add(task == null ? updatedTask : createCandidate(task, updatedTask));
+        }
+        List<Boolean> validations = validateTasks(candidates);
+
+        List<TaskBatchResult> results = new ArrayList<>();
+        List<Task> tasksToSave = new ArrayList<>();
+        List<Task> updates = new ArrayList<>();
+        for (int i = 0; i < updatedTasks.size(); i++) {
+            Task updatedTask = updatedTasks.get(i);
+            Task task = existingTasks.get(updatedTask.getId());
+            if (task == null) {
+                results.add(TaskBatchResult.failure(i, updatedTask.getId(), new TaskNotFoundException().getMessage()));
+            } else if (!hasExpectedVersion(task, updatedTask)) {
+                results.add(TaskBatchResult.failure(i, task.getId(),
+                        new TaskVersionConflictException().getMessage()));
+            } else if (!validations.get(i)) {
+                results.add(TaskBatchResult.failure(i, task.getId(), new TaskCanNotBeUpdatedException().getMessage()));
+            } else {
+                tasksToSave.add(task);
+                updates.add(updatedTask);
+                results.add(TaskBatchResult.success(i, task.getId()));
+            }
+        }
+        List<Long> savedIds = tasksToSave.stream().map(Task::getId).toList();
+        boardCounters.remove(savedIds);
+        List<Task> previousTasks = new ArrayList<>();
+        for (int i = 0; i < tasksToSave.size(); i++) {
+            previousTasks.add(createCandidate(tasksToSave.get(i), tasksToSave.get(i)));
+            applyUpdate(tasksToSave.get(i), updates.get(i));
+        }
+        taskRepository.saveAll(tasksToSave);
+        boardCounters.add(savedIds);
+        afterCommit(countCache::invalidate);
+        afterCommit(() -> taskSearchIndex.index(tasksToSave));
+        afterCommit(() -> changeFeed.publishUpdated(previousTasks, tasksToSave));
+        afterCommit(() -> activityLog.recordUpdated(previousTasks, tasksToSave));
+        return results;
+    }
+
+    @Transactional
+    public List<TaskBatchResult> deleteTasks(List<Long> ids) throws TaskBatchIsTooLargeException {
+        validateBatchSize(ids.size());
+        Set<Long> existingIds = new HashSet<>(taskRepository.findExistingIds(ids));
+        List<TaskBatchResult> results = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            results.add(existingIds.contains(id)
+                    ? TaskBatchResult.success(i, id)
+                    : TaskBatchResult.failure(i, id, new TaskNotFoundException().getMessage()));
+        }
+        boardCounters.remove(existingIds);
+        taskRepository.deleteAllByIdInBatch(existingIds);
+        afterCommit(countCache::invalidate);
+        afterCommit(() -> taskSearchIndex.remove(existingIds));
+        afterCommit(() -> changeFeed.publishDeleted(existingIds));
+        afterCommit(() -> activityLog.recordDeleted(existingIds));
+        return results;
+    }
+
+    private void validateBatchSize(int size) throws TaskBatchIsTooLargeException {
+        if (size > MAX_TASK_BATCH_ITEMS) {
+            throw new TaskBatchIsTooLargeException();
+        }
+    }
+
+    @Transactional
     public void deleteTask(Long id) throws TaskNotFoundException {
         if (!taskRepository.existsById(id)) {
             throw new TaskNotFoundException();
         }
+        boardCounters.remove(List.of(id));
         taskRepository.deleteById(id);
+        afterCommit(countCache::invalidate);
+        afterCommit(() -> taskSearchIndex.remove(List.of(id)));
+        afterCommit(() -> changeFeed.publishDeleted(List.of(id)));
+        afterCommit(() -> activityLog.recordDeleted(List.of(id)));
     }
 
+    @Transactional
     public void deleteAll() {
         taskRepository.deleteAll();
+        boardCounters.clear();
+        afterCommit(countCache::invalidate);
+        afterCommit(taskSearchIndex::clear);
+        afterCommit(changeFeed::publishResync);
+    }
+
+    @EventListener
+    @Transactional
+    public void detachDeletedCategories(CategoryDeletionEvent event) {
+        if (event.getCategoryIds().isEmpty()) {
+            return;
+        }
+        List<Task> tasks = taskRepository.findAllByCategoryIdIn(event.getCategoryIds());
+        if (tasks.isEmpty()) {
+            return;
+        }
+        taskRepository.incrementVersionByCategoryIds(event.getCategoryIds());
+        List<Task> previousTasks = tasks.stream().map(task -> createCandidate(task, task)).toList();
+        List<Task> detachedTasks = tasks.stream().map(this::withoutCategory).toList();
+        afterCommit(countCache::invalidate);
+        afterCommit(() -> taskSearchIndex.index(detachedTasks));
+        afterCommit(() -> changeFeed.publishUpdated(previousTasks, detachedTasks));
+        afterCommit(() -> activityLog.recordUpdated(previousTasks, detachedTasks));
+    }
+
+    private Task withoutCategory(Task task) {
+        Task detached = createCandidate(task, task);
+        detached.setCategory(null);
+        return detached;
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        taskSearchIndex.clear();
+        try (Stream<Task> tasks = taskRepository.streamAll(createSecification(new TaskFilter()), TASK_EXPORT_FETCH_SIZE)) {
+            List<Task> batch = new ArrayList<>();
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == TASK_EXPORT_FETCH_SIZE || !iterator.hasNext()) {
+                    taskSearchIndex.index(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+        }
+    }
+
+    public TaskChangeSubscription subscribeToChanges(TaskFilter filter, TaskChangeListener listener) {
+        return changeFeed.subscribe(filter, listener);
+    }
+
+    public void unsubscribeFromChanges(TaskChangeSubscription subscription) {
+        changeFeed.unsubscribe(subscription);
+    }
+
+    public TaskChangeFeedStatistics getChangeFeedStatistics() {
+        return changeFeed.getStatistics();
+    }
+
+    public TaskActivityPage getTaskActivity(Long id, int offset, int pageSize) {
+        int size = boundPageSize(pageSize);
+        List<TaskActivity> entries = activityLog.findByTaskId(id, Math.max(offset, 0), size + 1);
+        return entries.size() > size
+                ? new TaskActivityPage(entries.subList(0, size), true)
+                : new TaskActivityPage(entries, false);
+    }
+
+    public TaskActivityStatistics getActivityStatistics() {
+        return activityLog.getStatistics();
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("task-manager.tasks." + operation).register(meterRegistry);
+    }
+
+    private Timer timer(String operation, TaskFilter filter, boolean withTotal) {
+        return Timer.builder("task-manager.tasks." + operation)
+                .tag("filter", describeFilter(filter))
+                .tag("total", String.valueOf(withTotal))
+                .register(meterRegistry);
+    }
+
+    private String describeFilter(TaskFilter filter) {
+        List<String> predicates = new ArrayList<>();
+        addIf(predicates, filter.getStatus() != null, "status");
+        addIf(predicates, filter.getStatuses() != null, "statuses");
+        addIf(predicates, filter.getPriority() != null, "priority");
+        addIf(predicates, filter.getPriorities() != null, "priorities");
+        addIf(predicates, filter.getDueDate() != null, "dueDate");
+        addIf(predicates, filter.getDueDateFrom() != null || filter.getDueDateTo() != null, "dueDateRange");
+        addIf(predicates, filter.getCreatedAtFrom() != null || filter.getCreatedAtTo() != null, "createdAtRange");
+        addIf(predicates, filter.getAssigneeId() != null, "assignee");
+        addIf(predicates, filter.isUnassigned(), "unassigned");
+        addIf(predicates, filter.getCreatorId() != null, "creator");
+        addIf(predicates, filter.getCategoryId() != null, "category");
+        addIf(predicates, filter.getCategoryIds() != null, "categoryIds");
+        addIf(predicates, hasDescription(filter), "description");
+        return predicates.isEmpty() ? "none" : String.join("+", predicates);
+    }
+
+    private void addIf(List<String> predicates, boolean condition, String predicate) {
+        if (condition) {
+            predicates.add(predicate);
+        }
     }
 
+    @Transactional(readOnly = true)
+    public TaskBoard getBoard(TaskFilter filter) {
+        if (boardCounters.isEnabled() && createFilterKey(filter).equals(createFilterKey(new TaskFilter()))) {
+            return boardCounters.read();
+        }
+        List<TaskGroupCount> groups = taskSearchIndex.isSearchable(filter.getDescription())
+                ? taskSearchIndex.countGroups(filter.getDescription(), filter)
+                : taskRepository.countByStatusPriorityAndCategory(createSecification(filter));
+        TaskBoard board = new TaskBoard();
+        for (TaskGroupCount group : groups) {
+            board.addStatusAndPriority(group.getStatus(), group.getPriority(), group.getCount());
+            board.addCategory(group.getCategoryId(), group.getCount());
+        }
+        return board;
+    }
+
+    @Transactional(readOnly = true)
     public List<Task> getAllTasks() {
         return taskRepository.findAll();
     }
 
-    public SearchResult listTaskByFilter(Task filterTask, int offset, String orderBy, boolean ascending) {
-        Pageable pageable;
-        if (!orderBy.isBlank() && ALLOWED_SORT_FIELDS.contains(orderBy)) {
-            Sort sort = ascending ? Sort.by(orderBy).ascending() : Sort.by(orderBy).descending();
-            pageable = getPageable(filterTask, offset, sort);
-        } else {
-            pageable = getPageable(filterTask, offset);
+    @Transactional(readOnly = true)
+    public void exportTasksByFilter(TaskFilter filter, TaskExportWriter writer) throws IOException {
+        if (!taskSearchIndex.isSearchable(filter.getDescription())) {
+            writeTasks(createSecification(filter), writer);
+            return;
         }
-        return listTasksByFilterAndPageable(filterTask, pageable);
+        TaskCursor after = null;
+        TaskSearchHits hits;
+        do {
+            hits = taskSearchIndex.searchAfter(filter.getDescription(), filter, after, TASK_EXPORT_FETCH_SIZE, "",
+                    true);
+            if (!hits.getIds().isEmpty()) {
+                List<Long> ids = hits.getIds();
+                writeTasks((root, query, cb) -> root.get("id").in(ids), writer);
+                after = TaskCursor.after(ids.get(ids.size() - 1));
+            }
+        } while (hits.isHasNext());
     }
 
-    private Pageable getPageable(Task filterTask, int offset) {
-        return getPageable(filterTask, offset, Sort.by("id").ascending());
+    private void writeTasks(Specification<Task> specification, TaskExportWriter writer) throws IOException {
+        try (Stream<Task> tasks = taskRepository.streamAll(specification, TASK_EXPORT_FETCH_SIZE)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public SearchResult listTaskByFilter(TaskFilter filter, int offset, String orderBy, boolean ascending) {
+        return listTaskByFilter(filter, offset, TASK_BATCH_SIZE, orderBy, ascending, true);
+    }
+
+    @Transactional(readOnly = true)
+    public SearchResult listTaskByFilter(TaskFilter filter, int offset, int pageSize, String orderBy,
+            boolean ascending, boolean withTotal) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (taskSearchIndex.isSearchable(filter.getDescription())) {
+                return searchTasksByText(filter, offset, pageSize, orderBy, ascending, withTotal);
+            }
+            Pageable pageable = getPageable(offset, pageSize, orderBy, ascending);
+            return listTasksByFilterAndPageable(filter, pageable, withTotal);
+        } finally {
+            sample.stop(timer("list", filter, withTotal));
+        }
+    }
+
+    private SearchResult searchTasksByText(TaskFilter filter, int offset, int pageSize, String orderBy, boolean ascending,
+            boolean withTotal) {
+        int size = boundPageSize(pageSize);
+        String sortField = ALLOWED_SORT_FIELDS.contains(orderBy) ? orderBy : "";
+        TaskSearchHits hits = taskSearchIndex.search(filter.getDescription(), filter, offset / size * size, size,
+                sortField, ascending, withTotal);
+        return new SearchResult(hits.getTotalHits(), findAllInOrder(hits.getIds()), hits.isHasNext());
+    }
+
+    private List<Task> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Specification<Task> specification = (root, query, cb) -> root.get("id").in(ids);
+        Map<Long, Task> tasks = taskRepository.findBy(specification, query -> query.project(TASK_ASSOCIATIONS).all())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return ids.stream().map(tasks::get).filter(Objects::nonNull).toList();
+    }
+
+    private TaskSummarySearchResult searchTaskSummariesByText(TaskFilter filter, int offset, int pageSize,
+            String orderBy, boolean ascending, boolean withTotal) {
+        int size = boundPageSize(pageSize);
+        String sortField = ALLOWED_SORT_FIELDS.contains(orderBy) ? orderBy : "";
+        TaskSearchHits hits = taskSearchIndex.search(filter.getDescription(), filter, offset / size * size, size,
+                sortField, ascending, withTotal);
+        List<Long> ids = hits.getIds();
+        if (ids.isEmpty()) {
+            return new TaskSummarySearchResult(hits.getTotalHits(), List.of(), hits.isHasNext());
+        }
+        Map<Long, TaskSummary> summaries = taskRepository.findSummaries((root, query, cb) -> root.get("id").in(ids),
+                PageRequest.of(0, ids.size())).stream()
+                .collect(Collectors.toMap(TaskSummary::getId, Function.identity()));
+        return new TaskSummarySearchResult(hits.getTotalHits(),
+                ids.stream().map(summaries::get).filter(Objects::nonNull).toList(), hits.isHasNext());
+    }
+
+    @Transactional(readOnly = true)
+    public TaskSummarySearchResult listTaskSummariesByFilter(TaskFilter filter, int offset, int pageSize,
+            String orderBy, boolean ascending, boolean withTotal) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (taskSearchIndex.isSearchable(filter.getDescription())) {
+                return searchTaskSummariesByText(filter, offset, pageSize, orderBy, ascending, withTotal);
+            }
+            Pageable pageable = getPageable(offset, pageSize, orderBy, ascending);
+            Specification<Task> specification = createSecification(filter);
+            Slice<TaskSummary> results = taskRepository.findSummaries(specification, pageable);
+            long numberOfResults = withTotal ? countTasks(filter, specification)
+                    : SearchResult.UNKNOWN_NUMBER_OF_RESULTS;
+            return new TaskSummarySearchResult(numberOfResults, results.getContent(), results.hasNext());
+        } finally {
+            sample.stop(timer("list-summaries", filter, withTotal));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public SearchResult listTaskByFilterAfter(TaskFilter filter, String cursor, int pageSize, String orderBy,
+            boolean ascending) throws TaskCursorIsInvalidException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            int size = boundPageSize(pageSize);
+            String sortField = ALLOWED_SORT_FIELDS.contains(orderBy) ? orderBy : "";
+            boolean seekAscending = sortField.isEmpty() || ascending;
+            TaskCursor after = cursor.isBlank() ? null : TaskCursor.decode(cursor, sortField);
+            if (taskSearchIndex.isSearchable(filter.getDescription())) {
+                TaskSearchHits hits = taskSearchIndex.searchAfter(filter.getDescription(), filter, after, size,
+                        sortField, seekAscending);
+                List<Task> tasks = findAllInOrder(hits.getIds());
+                String nextCursor = hits.isHasNext() && !tasks.isEmpty()
+                        ? TaskCursor.of(tasks.get(tasks.size() - 1), sortField).encode()
+                        : null;
+                return new SearchResult(SearchResult.UNKNOWN_NUMBER_OF_RESULTS, tasks, nextCursor);
+            }
+            Specification<Task> specification = createSecification(filter);
+            if (after != null) {
+                specification = specification.and(createSeekSpecification(after, seekAscending));
+            }
+            Sort sort = getKeysetSort(sortField, seekAscending);
+            List<Task> tasks = taskRepository.findBy(specification,
+                    query -> query.project(TASK_ASSOCIATIONS).sortBy(sort).limit(size + 1).all());
+
+            String nextCursor = null;
+            if (tasks.size() > size) {
+                tasks = tasks.subList(0, size);
+                nextCursor = TaskCursor.of(tasks.get(size - 1), sortField).encode();
+            }
+            return new SearchResult(SearchResult.UNKNOWN_NUMBER_OF_RESULTS, tasks, nextCursor);
+        } finally {
+            sample.stop(timer("list-after", filter, false));
+        }
+    }
+
+    private Sort getKeysetSort(String sortField, boolean ascending) {
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        if (sortField.isEmpty()) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, sortField).and(Sort.by(direction, "id"));
+    }
+
+    private Pageable getPageable(int offset, int pageSize, String orderBy, boolean ascending) {
+        Sort sort = Sort.by("id").ascending();
+        if (!orderBy.isBlank() && ALLOWED_SORT_FIELDS.contains(orderBy)) {
+            sort = getKeysetSort(orderBy, ascending);
+        }
+        int size = boundPageSize(pageSize);
+        int pageNumber = offset / size;
+        return PageRequest.of(pageNumber, size, sort);
     }
 
-    private Pageable getPageable(Task filterTask, int offset, Sort sort) {
-        int pageNumber = offset / TASK_BATCH_SIZE;
-        return PageRequest.of(pageNumber, TASK_BATCH_SIZE, sort);
+    private int boundPageSize(int pageSize) {
+        return Math.max(1, Math.min(pageSize, MAX_TASK_BATCH_SIZE));
     }
 
-    private SearchResult listTasksByFilterAndPageable(Task filter, Pageable pageable) {
+    private SearchResult listTasksByFilterAndPageable(TaskFilter filter, Pageable pageable, boolean withTotal) {
         Specification<Task> specification = createSecification(filter);
+        if (!withTotal) {
+            Slice<Task> results = findSlice(specification, pageable);
+            return new SearchResult(SearchResult.UNKNOWN_NUMBER_OF_RESULTS, results.getContent(), results.hasNext());
+        }
+
+        String filterKey = createFilterKey(filter);
+        Long cachedTotal = countCache.get(filterKey);
+        if (cachedTotal != null) {
+            Slice<Task> results = findSlice(specification, pageable);
+            return new SearchResult(cachedTotal, results.getContent(), results.hasNext());
+        }
+
+        long generation = countCache.currentGeneration();
         Page<Task> results = taskRepository.findAll(specification, pageable);
-        return new SearchResult(results.getTotalElements(), results.getContent());
+        countCache.put(filterKey, results.getTotalElements(), generation);
+        return new SearchResult(results.getTotalElements(), results.getContent(), results.hasNext());
     }
 
-    private Specification<Task> createSecification(Task filter) {
+    private long countTasks(TaskFilter filter, Specification<Task> specification) {
+        String filterKey = createFilterKey(filter);
+        Long cachedTotal = countCache.get(filterKey);
+        if (cachedTotal != null) {
+            return cachedTotal;
+        }
+        long generation = countCache.currentGeneration();
+        long total = taskRepository.count(specification);
+        countCache.put(filterKey, total, generation);
+        return total;
+    }
+
+    private Slice<Task> findSlice(Specification<Task> specification, Pageable pageable) {
+        return taskRepository.findBy(specification, query -> query.project(TASK_ASSOCIATIONS).slice(pageable));
+    }
+
+    private String createFilterKey(TaskFilter filter) {
+        return String.join("|",
+                String.valueOf(filter.getStatus()),
+                String.valueOf(filter.getStatuses()),
+                String.valueOf(filter.getPriority()),
+                String.valueOf(filter.getPriorities()),
+                String.valueOf(filter.getDueDate()),
+                String.valueOf(filter.getDueDateFrom()),
+                String.valueOf(filter.getDueDateTo()),
+                String.valueOf(filter.getCreatedAtFrom()),
+                String.valueOf(filter.getCreatedAtTo()),
+                String.valueOf(filter.getAssigneeId()),
+                String.valueOf(filter.isUnassigned()),
+                String.valueOf(filter.getCreatorId()),
+                String.valueOf(filter.getCategoryId()),
+                String.valueOf(filter.getCategoryIds()),
+                String.valueOf(filter.getDescription()));
+    }
+
+    private Specification<Task> createSeekSpecification(TaskCursor after, boolean ascending) {
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            Predicate idAfter = ascending ? cb.greaterThan(id, after.getId()) : cb.lessThan(id, after.getId());
+            return switch (after.getOrderBy()) {
+                case "dueDate" -> seek(cb, root.get("dueDate"), (LocalDate) after.getSortKey(), idAfter, ascending);
+                case "status" -> seek(cb, root.get("status"), (Status) after.getSortKey(), idAfter, ascending);
+                case "priority" -> seek(cb, root.get("priority"), (Priority) after.getSortKey(), idAfter, ascending);
+                default -> idAfter;
+            };
+        };
+    }
+
+    private <T extends Comparable<? super T>> Predicate seek(CriteriaBuilder cb, Path<T> field, T sortKey,
+            Predicate idAfter, boolean ascending) {
+        if (ascending) {
+            return cb.and(cb.greaterThanOrEqualTo(field, sortKey),
+                    cb.or(cb.greaterThan(field, sortKey), idAfter));
+        }
+        return cb.and(cb.lessThanOrEqualTo(field, sortKey),
+                cb.or(cb.lessThan(field, sortKey), idAfter));
+    }
+
+    public Specification<Task> createSecification(TaskFilter filter) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             if (filter.getStatus() != null) {
-                predicates.add(cb.equal(root.get("status"), filter.getStatus().ordinal()));
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+
+            if (filter.getStatuses() != null) {
+                predicates.add(in(cb, root.get("status"), filter.getStatuses()));
             }
 
             if (filter.getPriority() != null) {
-                predicates.add(cb.equal(root.get("priority"), filter.getPriority().ordinal()));
+                predicates.add(cb.equal(root.get("priority"), filter.getPriority()));
+            }
+
+            if (filter.getPriorities() != null) {
+                predicates.add(in(cb, root.get("priority"), filter.getPriorities()));
             }
 
             if (filter.getDueDate() != null) {
                 predicates.add(cb.equal(root.get("dueDate"), filter.getDueDate()));
             }
 
-            if (filter.getAssignee() != null) {
-                predicates.add(cb.equal(root.get("assignee"), filter.getAssignee()));
+            if (filter.getDueDateFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dueDate"), filter.getDueDateFrom()));
+            }
+
+            if (filter.getDueDateTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dueDate"), filter.getDueDateTo()));
+            }
+
+            if (filter.getCreatedAtFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedAtFrom()));
+            }
+
+            if (filter.getCreatedAtTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), filter.getCreatedAtTo()));
+            }
+
+            if (filter.getAssigneeId() != null) {
+                predicates.add(cb.equal(root.get("assignee").get("id"), filter.getAssigneeId()));
             }
 
-            if (filter.getCreator() != null) {
-                predicates.add(cb.equal(root.get("creator"), filter.getCreator()));
+            if (filter.isUnassigned()) {
+                predicates.add(cb.isNull(root.get("assignee")));
             }
 
-            if (filter.getDescription() != null && !filter.getDescription().isBlank()) {
-                predicates.add(cb.like(cb.lower(root.get("description")), "%" + filter.getDescription() + "%"));
+            if (filter.getCreatorId() != null) {
+                predicates.add(cb.equal(root.get("creator").get("id"), filter.getCreatorId()));
             }
 
-            if (filter.getCategory() != null) {
-                predicates.add(cb.equal(root.get("category"), filter.getCategory()));
+            if (filter.getCategoryId() != null) {
+                predicates.add(cb.equal(root.get("category").get("id"), filter.getCategoryId()));
+            }
+
+            if (filter.getCategoryIds() != null) {
+                predicates.add(in(cb, root.get("category").get("id"), filter.getCategoryIds()));
+            }
+
+            if (hasDescription(filter) && !taskSearchIndex.isSearchable(filter.getDescription())) {
+                predicates.add(cb.like(cb.lower(root.get("description")), containing(filter.getDescription()), '\\'));
             }
 
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    private boolean hasDescription(TaskFilter filter) {
+        return filter.getDescription() != null && !filter.getDescription().isBlank();
+    }
+
+    private String containing(String text) {
+        String escaped = text.toLowerCase().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private <T> Predicate in(CriteriaBuilder cb, Path<T> field, List<T> values) {
+        return values.isEmpty() ? cb.disjunction() : field.in(values);
+    }
+}
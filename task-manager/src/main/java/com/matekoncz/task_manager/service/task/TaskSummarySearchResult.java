@@ -0,0 +1,44 @@
+package com.matekoncz.task_manager.service.task;
+
+import java.util.List;
+
+import com.matekoncz.task_manager.model.TaskSummary;
+
+public class TaskSummarySearchResult {
+    private long numberOfResults;
+    private List<TaskSummary> tasks;
+    private boolean hasNext;
+
+    public TaskSummarySearchResult() {
+    }
+
+    public TaskSummarySearchResult(long numberOfResults, List<TaskSummary> tasks, boolean hasNext) {
+        this.numberOfResults = numberOfResults;
+        this.tasks = tasks;
+        this.hasNext = hasNext;
+    }
+
+    public long getNumberOfResults() {
+        return numberOfResults;
+    }
+
+    public void setNumberOfResults(long numberOfResults) {
+        this.numberOfResults = numberOfResults;
+    }
+
+    public List<TaskSummary> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskSummary> tasks) {
+        this.tasks = tasks;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
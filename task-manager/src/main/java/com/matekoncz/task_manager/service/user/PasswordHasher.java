@@ -0,0 +1,74 @@
+package com.matekoncz.task_manager.service.user;
+
+import com.matekoncz.task_manager.exceptions.auth.PasswordHashingIsBusyException;
+import com.matekoncz.task_manager.model.PasswordHashingStatistics;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final String dummyHash;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, ThreadPoolExecutor executor) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public String encodeAndWait(String rawPassword) throws PasswordHashingIsBusyException {
+        try {
+            return encode(rawPassword).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PasswordHashingIsBusyException busy) {
+                throw busy;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingIsBusyException();
+        }
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            return submit(() -> {
+                passwordEncoder.matches(rawPassword, dummyHash);
+                return false;
+            });
+        }
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public PasswordHashingStatistics getStatistics() {
+        return new PasswordHashingStatistics(executor.getQueue().size(), executor.getActiveCount(),
+                executor.getCompletedTaskCount(), rejected.get());
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            return CompletableFuture.failedFuture(new PasswordHashingIsBusyException());
+        }
+    }
+}
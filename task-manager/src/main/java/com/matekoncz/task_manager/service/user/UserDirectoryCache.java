@@ -0,0 +1,111 @@
+package com.matekoncz.task_manager.service.user;
+
+import com.matekoncz.task_manager.model.UserDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UserDirectoryCache {
+
+    private record Entry(UserDto user, long generation) {
+    }
+
+    private record Snapshot(List<UserDto> users, long generation) {
+    }
+
+    private final Map<Long, Entry> usersById = new ConcurrentHashMap<>();
+    private final Map<String, Long> idsByUsername = new ConcurrentHashMap<>();
+    private volatile Snapshot allUsers;
+    private final AtomicLong generation = new AtomicLong();
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final int maxEntries;
+
+    public UserDirectoryCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public UserDto getById(Long id) {
+        Entry entry = usersById.get(id);
+        if (entry == null || entry.generation() != generation.get()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.user();
+    }
+
+    public UserDto getByUsername(String username) {
+        Long id = idsByUsername.get(username);
+        if (id == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        return getById(id);
+    }
+
+    public List<UserDto> getAll() {
+        Snapshot snapshot = allUsers;
+        if (snapshot == null || snapshot.generation() != generation.get()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return snapshot.users();
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public String currentVersion() {
+        return epoch + "-" + generation.get();
+    }
+
+    public void put(UserDto user, long observedGeneration) {
+        if (observedGeneration != generation.get()) {
+            return;
+        }
+        if (usersById.size() >= maxEntries) {
+            usersById.clear();
+            idsByUsername.clear();
+        }
+        usersById.put(user.getId(), new Entry(user, observedGeneration));
+        idsByUsername.put(user.getUsername(), user.getId());
+    }
+
+    public void putAll(List<UserDto> users, long observedGeneration) {
+        if (observedGeneration != generation.get() || users.size() > maxEntries) {
+            return;
+        }
+        usersById.clear();
+        idsByUsername.clear();
+        for (UserDto user : users) {
+            usersById.put(user.getId(), new Entry(user, observedGeneration));
+            idsByUsername.put(user.getUsername(), user.getId());
+        }
+        allUsers = new Snapshot(List.copyOf(users), observedGeneration);
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        allUsers = null;
+        usersById.clear();
+        idsByUsername.clear();
+    }
+
+    public int size() {
+        return usersById.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+}
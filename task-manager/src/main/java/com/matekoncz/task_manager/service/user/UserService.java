@@ -1,35 +1,66 @@
 package com.matekoncz.task_manager.service.user;
 
+import com.matekoncz.task_manager.exceptions.auth.PasswordHashingIsBusyException;
 import com.matekoncz.task_manager.exceptions.auth.WrongUsernameOrPasswordException;
 import com.matekoncz.task_manager.exceptions.user.UserCanNotBeCreatedException;
 import com.matekoncz.task_manager.exceptions.user.UserNameIsNotUniqueException;
 import com.matekoncz.task_manager.exceptions.user.UserNotFoundException;
+import com.matekoncz.task_manager.model.CacheStatistics;
+import com.matekoncz.task_manager.model.PasswordHashingStatistics;
 import com.matekoncz.task_manager.model.User;
 import com.matekoncz.task_manager.model.UserDto;
 import com.matekoncz.task_manager.repository.UserRepository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.matekoncz.task_manager.service.TransactionCallbacks.afterCommit;
 
 @Service
 public class UserService {
 
+    private static final int USER_CACHE_MAX_ENTRIES = 10000;
+
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordHasher passwordHasher;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final UserDirectoryCache userCache = new UserDirectoryCache(USER_CACHE_MAX_ENTRIES);
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, PasswordHasher passwordHasher, MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    public User createUser(User user) throws UserCanNotBeCreatedException, UserNameIsNotUniqueException {
+    public User createUser(User user)
+            throws UserCanNotBeCreatedException, UserNameIsNotUniqueException, PasswordHashingIsBusyException {
         validateUser(user);
-        String hashedPassword = passwordEncoder.encode(user.getPassword());
+        String hashedPassword = passwordHasher.encodeAndWait(user.getPassword());
         user.setPassword(hashedPassword);
         try {
-            return userRepository.save(user);
+            return transactionTemplate.execute(status -> {
+                User created = userRepository.save(user);
+                afterCommit(userCache::invalidate);
+                return created;
+            });
         } catch (DataIntegrityViolationException e) {
             throw new UserNameIsNotUniqueException();
         }
@@ -46,33 +77,127 @@ public class UserService {
         }
     }
 
+    @Transactional(readOnly = true)
     public User getUserById(Long id) throws UserNotFoundException {
         return userRepository.findById(id).orElseThrow(UserNotFoundException::new);
     }
 
+    public UserDto getUserDtoById(Long id) throws UserNotFoundException {
+        UserDto cached = userCache.getById(id);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = userCache.currentGeneration();
+        UserDto user = toUserDto(userRepository.findById(id).orElseThrow(UserNotFoundException::new));
+        userCache.put(user, generation);
+        return user;
+    }
+
+    public UserDto getUserDtoByUsername(String username) throws UserNotFoundException {
+        UserDto cached = userCache.getByUsername(username);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = userCache.currentGeneration();
+        UserDto user = toUserDto(getUserByUsername(username));
+        userCache.put(user, generation);
+        return user;
+    }
+
+    public Set<Long> getExistingUserIds(Collection<Long> ids) {
+        List<UserDto> users = userCache.getAll();
+        if (users != null) {
+            return users.stream().map(UserDto::getId).filter(ids::contains).collect(Collectors.toSet());
+        }
+        Set<Long> existingIds = new HashSet<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            if (userCache.getById(id) != null) {
+                existingIds.add(id);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            long generation = userCache.currentGeneration();
+            for (UserDto user : userRepository.findUserDtosByIds(missingIds)) {
+                userCache.put(user, generation);
+                existingIds.add(user.getId());
+            }
+        }
+        return existingIds;
+    }
+
+    @Transactional(readOnly = true)
     public User getUserByUsername(String username) throws UserNotFoundException {
         return userRepository.findByUsername(username).orElseThrow(UserNotFoundException::new);
     }
 
-    public User authenticate(String username, String password) throws WrongUsernameOrPasswordException {
-        User user;
-        try {
-            user = getUserByUsername(username);
-            if (!passwordEncoder.matches(password, user.getPassword())) {
-                throw new WrongUsernameOrPasswordException();
+    public CompletableFuture<User> authenticate(String username, String password) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        User user = userRepository.findByUsername(username).orElse(null);
+        String encodedPassword = user == null ? null : user.getPassword();
+        return passwordHasher.matches(password, encodedPassword).thenCompose(matches -> {
+            if (!matches) {
+                return CompletableFuture.<User>failedFuture(new WrongUsernameOrPasswordException());
             }
-            return user;
-        } catch (UserNotFoundException e) {
-            throw new WrongUsernameOrPasswordException();
+            if (!passwordHasher.upgradeEncoding(encodedPassword)) {
+                return CompletableFuture.completedFuture(user);
+            }
+            return rehashPassword(user, password);
+        }).whenComplete((authenticated, e) -> sample.stop(Timer.builder("task-manager.users.authenticate")
+                .tag("outcome", getAuthenticationOutcome(e))
+                .register(meterRegistry)));
+    }
+
+    private String getAuthenticationOutcome(Throwable e) {
+        if (e == null) {
+            return "success";
         }
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof WrongUsernameOrPasswordException ? "rejected" : "error";
     }
 
+    private CompletableFuture<User> rehashPassword(User user, String password) {
+        return passwordHasher.encode(password).thenApply(hashedPassword -> {
+            user.setPassword(hashedPassword);
+            userRepository.save(user);
+            return user;
+        }).exceptionally(e -> user);
+    }
+
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
+    public List<UserDto> getAllUserDtos() {
+        List<UserDto> cached = userCache.getAll();
+        if (cached != null) {
+            return cached;
+        }
+        long generation = userCache.currentGeneration();
+        List<UserDto> users = userRepository.findAllUserDtos();
+        userCache.putAll(users, generation);
+        return users;
+    }
+
+    public String getUsersVersion() {
+        return userCache.currentVersion();
+    }
+
+    @Transactional
     public void deleteAll() {
         userRepository.deleteAll();
+        afterCommit(userCache::invalidate);
+    }
+
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(userCache.getHitCount(), userCache.getMissCount(), userCache.size());
+    }
+
+    public PasswordHashingStatistics getPasswordHashingStatistics() {
+        return passwordHasher.getStatistics();
     }
 
     public UserDto toUserDto(User user) {
@@ -0,0 +1,44 @@
+CREATE SEQUENCE IF NOT EXISTS task_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS task_manager_user (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    password CHARACTER VARYING(255) NOT NULL,
+    username CHARACTER VARYING(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_task_manager_user_username UNIQUE (username)
+);
+
+CREATE TABLE IF NOT EXISTS category (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    name CHARACTER VARYING(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_category_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS task (
+    id BIGINT NOT NULL,
+    created_at DATE NOT NULL,
+    description CHARACTER VARYING(255) NOT NULL,
+    due_date DATE NOT NULL,
+    priority TINYINT NOT NULL CHECK (priority BETWEEN 0 AND 3),
+    status TINYINT NOT NULL CHECK (status BETWEEN 0 AND 3),
+    assignee_id BIGINT,
+    category_id BIGINT,
+    creator_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_task_assignee FOREIGN KEY (assignee_id) REFERENCES task_manager_user (id),
+    CONSTRAINT fk_task_creator FOREIGN KEY (creator_id) REFERENCES task_manager_user (id),
+    CONSTRAINT fk_task_category FOREIGN KEY (category_id) REFERENCES category (id) ON DELETE SET NULL
+);
+
+ALTER SEQUENCE task_seq RESTART WITH (SELECT COALESCE(MAX(id) + 51, 1) FROM task);
+
+CREATE INDEX IF NOT EXISTS idx_task_due_date ON task (due_date, id);
+CREATE INDEX IF NOT EXISTS idx_task_status_due_date ON task (status, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_task_status ON task (status, id);
+CREATE INDEX IF NOT EXISTS idx_task_priority_due_date ON task (priority, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_task_priority ON task (priority, id);
+CREATE INDEX IF NOT EXISTS idx_task_assignee_status_due_date ON task (assignee_id, status, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_task_assignee_due_date ON task (assignee_id, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_task_creator_due_date ON task (creator_id, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_task_category_due_date ON task (category_id, due_date, id);
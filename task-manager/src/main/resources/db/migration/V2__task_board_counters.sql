@@ -0,0 +1,14 @@
+CREATE TABLE task_status_priority_count (
+    status TINYINT NOT NULL,
+    priority TINYINT NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (status, priority)
+);
+
+CREATE TABLE task_category_count (
+    category_id BIGINT NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (category_id),
+    CONSTRAINT fk_task_category_count_category FOREIGN KEY (category_id) REFERENCES category (id)
+        ON DELETE CASCADE
+);
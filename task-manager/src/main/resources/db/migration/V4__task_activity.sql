@@ -0,0 +1,13 @@
+CREATE TABLE task_activity (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    task_id BIGINT NOT NULL,
+    actor_id BIGINT,
+    changed_at TIMESTAMP NOT NULL,
+    change_type CHARACTER VARYING(16) NOT NULL,
+    field CHARACTER VARYING(32),
+    old_value CHARACTER VARYING(255),
+    new_value CHARACTER VARYING(255),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_task_activity_task ON task_activity (task_id, id);
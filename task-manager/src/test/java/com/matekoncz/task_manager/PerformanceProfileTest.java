@@ -0,0 +1,76 @@
+package com.matekoncz.task_manager;
+
+import com.matekoncz.task_manager.config.ConnectionPoolCheck;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:performance-profile-test")
+@ActiveProfiles("performance")
+public class PerformanceProfileTest {
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ThreadPoolExecutor passwordHashingExecutor;
+
+    @Value("${server.tomcat.threads.max}")
+    private int requestThreads;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.fetch_size}")
+    private int fetchSize;
+
+    @Value("${spring.jpa.properties.hibernate.generate_statistics}")
+    private boolean generateStatistics;
+
+    @Test
+    void shouldSizePoolForEveryThreadThatHoldsAConnection() {
+        assertEquals(64, dataSource.getMaximumPoolSize());
+        assertEquals(100, fetchSize);
+        assertTrue(generateStatistics);
+        assertEquals(8, ConnectionPoolCheck.asyncThreads(applicationTaskExecutor));
+        assertNull(ConnectionPoolCheck.check(dataSource.getMaximumPoolSize(), requestThreads,
+                ConnectionPoolCheck.asyncThreads(applicationTaskExecutor),
+                passwordHashingExecutor.getMaximumPoolSize() + 1, false));
+    }
+
+    @Test
+    void shouldCacheParsedStatementsWithoutOverridingDatasourceUrl() throws Exception {
+        assertEquals("jdbc:h2:mem:performance-profile-test", dataSource.getJdbcUrl());
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery(
+                        "SELECT SETTING_VALUE FROM INFORMATION_SCHEMA.SETTINGS WHERE SETTING_NAME = 'QUERY_CACHE_SIZE'")) {
+            assertTrue(result.next());
+            assertEquals("64", result.getString(1));
+        }
+    }
+
+    @Test
+    void shouldWarnWhenPoolIsSmallerThanConnectionHoldingThreads() {
+        assertNotNull(ConnectionPoolCheck.check(10, 200, 8, 3, false));
+        assertNotNull(ConnectionPoolCheck.check(10, 200, 8, 3, true));
+        assertNotNull(ConnectionPoolCheck.check(300, 200, 8, 3, true));
+        assertNotNull(ConnectionPoolCheck.check(50, 50, 8, 3, false));
+        assertNull(ConnectionPoolCheck.check(61, 50, 8, 3, false));
+    }
+}
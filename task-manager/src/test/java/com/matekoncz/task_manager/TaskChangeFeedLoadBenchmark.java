@@ -0,0 +1,163 @@
+package com.matekoncz.task_manager;
+
+import com.matekoncz.task_manager.model.TaskChangeFeedStatistics;
+import com.matekoncz.task_manager.service.task.TaskService;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TaskChangeFeedLoadBenchmark {
+
+    private static final String USERNAME = "bench-user";
+    private static final String PASSWORD = "bench-password";
+    private static final int SUBSCRIBERS = 3000;
+    private static final int TASK_COUNT = 50;
+    private static final int UPDATES = 20;
+    private static final Pattern TASK_ID = Pattern.compile("\"taskId\":(\\d+)");
+
+    @Test
+    void shouldFanOutChangesToThousandsOfSubscribers() throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.max-connections=" + (SUBSCRIBERS + 100),
+                        "spring.datasource.url=jdbc:h2:mem:change-feed-benchmark",
+                        "spring.jpa.properties.hibernate.generate_statistics=false");
+        try (ConfigurableApplicationContext context = builder.run();
+                ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor();
+                HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                        .executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            populate(client, context.getBean(JdbcTemplate.class), baseUrl);
+            String cookie = client.send(loginRequest(baseUrl), HttpResponse.BodyHandlers.discarding()).headers()
+                    .firstValue(HttpHeaders.SET_COOKIE).orElseThrow();
+
+            Map<Long, Long> publishedAt = new ConcurrentHashMap<>();
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger received = new AtomicInteger();
+            AtomicInteger failures = new AtomicInteger();
+            CountDownLatch connected = new CountDownLatch(SUBSCRIBERS);
+            CountDownLatch finished = new CountDownLatch(SUBSCRIBERS);
+            long connectStarted = System.nanoTime();
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                String query = i % 2 == 0 ? "" : "?statuses=NEW&statuses=IN_PROGRESS";
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/changes" + query))
+                        .header(HttpHeaders.COOKIE, cookie).GET().build();
+                readers.submit(() -> read(client, request, connected, finished, publishedAt, latencies, received,
+                        failures));
+            }
+            connected.await(2, TimeUnit.MINUTES);
+            long connectMillis = (System.nanoTime() - connectStarted) / 1_000_000;
+            TaskService taskService = context.getBean(TaskService.class);
+
+            long publishStarted = System.nanoTime();
+            for (long id = 1; id <= UPDATES; id++) {
+                publishedAt.put(id, System.nanoTime());
+                HttpRequest update = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/" + id))
+                        .header(HttpHeaders.COOKIE, cookie)
+                        .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString("{\"description\":\"updated " + id
+                                + "\",\"status\":\"NEW\",\"priority\":\"HIGH\",\"dueDate\":\"2025-06-01\"}"))
+                        .build();
+                client.send(update, HttpResponse.BodyHandlers.discarding());
+            }
+            finished.await(2, TimeUnit.MINUTES);
+            long fanOutMillis = (System.nanoTime() - publishStarted) / 1_000_000;
+            TaskChangeFeedStatistics statistics = taskService.getChangeFeedStatistics();
+
+            List<Long> sorted = latencies.stream().sorted().toList();
+            System.out.printf("subscribers=%d connect=%dms updates=%d fan-out=%dms%n", SUBSCRIBERS, connectMillis,
+                    UPDATES, fanOutMillis);
+            System.out.printf("events received=%d expected=%d dropped=%d failed subscribers=%d%n", received.get(),
+                    SUBSCRIBERS * UPDATES, statistics.getDropped(), failures.get());
+            System.out.printf("delivery latency p50=%dms p99=%dms p999=%dms max=%dms%n", percentile(sorted, 50),
+                    percentile(sorted, 99), percentile(sorted, 99.9), percentile(sorted, 100));
+            assertEquals(0, failures.get());
+            assertEquals(SUBSCRIBERS * UPDATES, received.get() + statistics.getDropped());
+        }
+    }
+
+    private void read(HttpClient client, HttpRequest request, CountDownLatch connected, CountDownLatch finished,
+            Map<Long, Long> publishedAt, List<Long> latencies, AtomicInteger received, AtomicInteger failures) {
+        int events = 0;
+        try {
+            HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+            connected.countDown();
+            try (Stream<String> lines = response.body()) {
+                Iterator<String> iterator = lines.iterator();
+                while (events < UPDATES && iterator.hasNext()) {
+                    String line = iterator.next();
+                    if (line.startsWith("event:RESYNC")) {
+                        break;
+                    }
+                    Matcher matcher = TASK_ID.matcher(line);
+                    if (matcher.find()) {
+                        Long sentAt = publishedAt.get(Long.parseLong(matcher.group(1)));
+                        latencies.add((System.nanoTime() - sentAt) / 1_000_000);
+                        received.incrementAndGet();
+                        events++;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            connected.countDown();
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    private void populate(HttpClient client, JdbcTemplate jdbcTemplate, String baseUrl) throws Exception {
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/register"))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        long userId = jdbcTemplate.queryForObject("SELECT id FROM task_manager_user WHERE username = ?", Long.class,
+                USERNAME);
+        jdbcTemplate.update("INSERT INTO task (id, created_at, description, due_date, priority, status, "
+                + "assignee_id, creator_id) "
+                + "SELECT x, DATE '2025-01-01', 'benchmark task ' || x, DATE '2025-01-01', 0, 0, ?, ? "
+                + "FROM SYSTEM_RANGE(1, ?)", userId, userId, TASK_COUNT);
+    }
+
+    private HttpRequest loginRequest(String baseUrl) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+    }
+
+    private long percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+}
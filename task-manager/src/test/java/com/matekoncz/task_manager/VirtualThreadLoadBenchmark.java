@@ -0,0 +1,145 @@
+package com.matekoncz.task_manager;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class VirtualThreadLoadBenchmark {
+
+    private static final String VIRTUAL_THREADS_PROFILE = "virtual-threads";
+    private static final String USERNAME = "bench-user";
+    private static final String PASSWORD = "bench-password";
+    private static final int TASK_COUNT = 500;
+    private static final int CONCURRENCY = 200;
+    private static final int TASK_REQUESTS_PER_CLIENT = 5;
+    private static final int WARMUP_REQUESTS = 200;
+
+    private record Latencies(String name, List<Long> millis, int failures) {
+    }
+
+    @Test
+    void shouldCompareTailLatencyOfPlatformAndVirtualThreads() throws Exception {
+        List<Latencies> results = new ArrayList<>();
+        results.addAll(run(VIRTUAL_THREADS_PROFILE));
+        results.addAll(run("platform"));
+
+        System.out.printf("%-32s %8s %8s %8s %8s %8s%n", "scenario", "p50", "p95", "p99", "max", "failed");
+        for (Latencies latencies : results) {
+            System.out.printf("%-32s %8d %8d %8d %8d %8d%n", latencies.name(), percentile(latencies, 50),
+                    percentile(latencies, 95), percentile(latencies, 99), percentile(latencies, 100),
+                    latencies.failures());
+        }
+        for (Latencies latencies : results) {
+            assertEquals(0, latencies.failures(), latencies.name());
+        }
+    }
+
+    private List<Latencies> run(String mode) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:load-benchmark-" + mode,
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "spring.mvc.async.request-timeout=10m",
+                        "task-manager.password.bcrypt-strength=10",
+                        "task-manager.password.hashing-queue-capacity=" + CONCURRENCY);
+        if (VIRTUAL_THREADS_PROFILE.equals(mode)) {
+            builder.profiles(VIRTUAL_THREADS_PROFILE);
+        }
+        try (ConfigurableApplicationContext context = builder.run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            populate(context.getBean(JdbcTemplate.class), baseUrl);
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+            String cookie = login(client, baseUrl).headers().firstValue(HttpHeaders.SET_COOKIE).orElseThrow();
+            HttpRequest allTasks = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/all"))
+                    .header(HttpHeaders.COOKIE, cookie).GET().build();
+
+            measure(client, "warmup", WARMUP_REQUESTS, 1, () -> allTasks);
+            return List.of(
+                    measure(client, mode + " GET /api/tasks/all", CONCURRENCY, TASK_REQUESTS_PER_CLIENT,
+                            () -> allTasks),
+                    measure(client, mode + " POST /api/auth/login", CONCURRENCY, 1,
+                            () -> loginRequest(baseUrl)));
+        }
+    }
+
+    private void populate(JdbcTemplate jdbcTemplate, String baseUrl) throws Exception {
+        HttpClient.newHttpClient().send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/register"))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        long userId = jdbcTemplate.queryForObject("SELECT id FROM task_manager_user WHERE username = ?", Long.class,
+                USERNAME);
+        jdbcTemplate.update("INSERT INTO task (id, created_at, description, due_date, priority, status, "
+                + "assignee_id, creator_id) "
+                + "SELECT x, DATE '2025-01-01', 'benchmark task ' || x, "
+                + "DATEADD(DAY, MOD(x, 730), DATE '2025-01-01'), MOD(x, 4), MOD(x / 3, 4), ?, ? "
+                + "FROM SYSTEM_RANGE(1, ?)", userId, userId, TASK_COUNT);
+    }
+
+    private HttpResponse<Void> login(HttpClient client, String baseUrl) throws Exception {
+        return client.send(loginRequest(baseUrl), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpRequest loginRequest(String baseUrl) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+    }
+
+    private Latencies measure(HttpClient client, String name, int clients, int requestsPerClient,
+            Supplier<HttpRequest> request) throws Exception {
+        List<Long> millis = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < requestsPerClient; j++) {
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request.get(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        millis.add((System.nanoTime() - started) / 1_000_000);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return new Latencies(name, millis, failures.get());
+    }
+
+    private long percentile(Latencies latencies, int percentile) {
+        List<Long> sorted = latencies.millis().stream().sorted().toList();
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+}
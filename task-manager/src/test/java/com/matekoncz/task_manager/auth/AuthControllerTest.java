@@ -1,6 +1,7 @@
 package com.matekoncz.task_manager.auth;
 
 import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.exceptions.auth.PasswordHashingIsBusyException;
 import com.matekoncz.task_manager.exceptions.user.UserCanNotBeCreatedException;
 import com.matekoncz.task_manager.exceptions.user.UserNameIsNotUniqueException;
 import com.matekoncz.task_manager.model.User;
@@ -10,17 +11,43 @@ import com.matekoncz.task_manager.service.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.*;
 
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class AuthControllerTest extends TaskManagerIntegrationTest {
 
+    private static final Queue<String> sessionThreads = new ConcurrentLinkedQueue<>();
+
+    @TestConfiguration
+    static class SessionThreadConfiguration {
+
+        @Bean
+        HttpSessionListener sessionThreadListener() {
+            return new HttpSessionListener() {
+                @Override
+                public void sessionCreated(HttpSessionEvent event) {
+                    sessionThreads.add(Thread.currentThread().getName());
+                }
+            };
+        }
+    }
+
     @Autowired
     private UserService userService;
 
     @BeforeEach
-    void setUp() throws UserCanNotBeCreatedException, UserNameIsNotUniqueException {
+    void setUp() throws UserCanNotBeCreatedException, UserNameIsNotUniqueException,
+            PasswordHashingIsBusyException {
         userService.deleteAll();
         userService.createUser(new User(null, "authuser", "password"));
     }
@@ -35,6 +62,20 @@ public class AuthControllerTest extends TaskManagerIntegrationTest {
         assertEquals("authuser", response.getBody().getUsername());
     }
 
+    @Test
+    void shouldCreateSessionOnContainerThread() {
+        sessionThreads.clear();
+        Credentials credentials = new Credentials("authuser", "password");
+
+        ResponseEntity<User> response = restTemplate.postForEntity("/api/auth/login", credentials, User.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.SET_COOKIE));
+        List<String> threads = List.copyOf(sessionThreads);
+        assertEquals(1, threads.size());
+        assertFalse(threads.get(0).startsWith("password-hashing-"), threads.get(0));
+    }
+
     @Test
     void shouldFailLoginWithInvalidCredentials() {
         Credentials credentials = new Credentials("authuser", "wrongpassword");
@@ -0,0 +1,60 @@
+package com.matekoncz.task_manager.auth;
+
+import com.matekoncz.task_manager.exceptions.auth.AuthTokenIsInvalidException;
+import com.matekoncz.task_manager.model.UserDto;
+import com.matekoncz.task_manager.service.auth.AuthTokenService;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+public class AuthTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private AuthTokenService authTokenService = new AuthTokenService("secret", Duration.ofHours(1),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void shouldVerifyIssuedToken() throws AuthTokenIsInvalidException {
+        String token = authTokenService.issueToken(new UserDto(7L, "user:with.separators"));
+
+        UserDto user = authTokenService.verifyToken(token);
+
+        assertEquals(7L, user.getId());
+        assertEquals("user:with.separators", user.getUsername());
+    }
+
+    @Test
+    void shouldRejectTamperedToken() {
+        String token = authTokenService.issueToken(new UserDto(7L, "user"));
+        String forged = new AuthTokenService("other-secret", Duration.ofHours(1),
+                Clock.fixed(NOW, ZoneOffset.UTC)).issueToken(new UserDto(1L, "admin"));
+        String tampered = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertThrows(AuthTokenIsInvalidException.class, () -> authTokenService.verifyToken(forged));
+        assertThrows(AuthTokenIsInvalidException.class, () -> authTokenService.verifyToken(tampered));
+        assertThrows(AuthTokenIsInvalidException.class, () -> authTokenService.verifyToken("garbage"));
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        String token = authTokenService.issueToken(new UserDto(7L, "user"));
+        AuthTokenService later = new AuthTokenService("secret", Duration.ofHours(1),
+                Clock.fixed(NOW.plus(Duration.ofHours(2)), ZoneOffset.UTC));
+
+        assertThrows(AuthTokenIsInvalidException.class, () -> later.verifyToken(token));
+    }
+
+    @Test
+    void shouldNotBeConfiguredWithoutSecret() {
+        assertFalse(new AuthTokenService("", Duration.ofHours(1)).isConfigured());
+    }
+}
@@ -0,0 +1,66 @@
+package com.matekoncz.task_manager.auth;
+
+import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.user.Credentials;
+import com.matekoncz.task_manager.service.user.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.*;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = {
+        "task-manager.auth.stateless=true",
+        "task-manager.auth.token-secret=stateless-test-secret"
+})
+public class StatelessAuthControllerTest extends TaskManagerIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userService.deleteAll();
+        userService.createUser(new User(null, "tokenuser", "password"));
+    }
+
+    @Test
+    void shouldIssueTokenWithoutSession() {
+        Credentials credentials = new Credentials("tokenuser", "password");
+        ResponseEntity<User> response = restTemplate.postForEntity("/api/auth/login", credentials, User.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("tokenuser", response.getBody().getUsername());
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.AUTHORIZATION).startsWith("Bearer "));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.SET_COOKIE));
+    }
+
+    @Test
+    void shouldAuthenticateRequestsWithToken() {
+        Credentials credentials = new Credentials("tokenuser", "password");
+        ResponseEntity<User> login = restTemplate.postForEntity("/api/auth/login", credentials, User.class);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, login.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        ResponseEntity<String> response = restTemplate.exchange("/api/users/all", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("tokenuser"));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.SET_COOKIE));
+    }
+
+    @Test
+    void shouldRejectRequestsWithInvalidToken() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, "Bearer invalid.token");
+        ResponseEntity<String> response = restTemplate.exchange("/api/users/all", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+    }
+}
@@ -0,0 +1,79 @@
+package com.matekoncz.task_manager.category;
+
+import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.model.Category;
+import com.matekoncz.task_manager.service.category.CategoryService;
+import com.matekoncz.task_manager.service.task.TaskService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CategoryCacheInvalidationTest extends TaskManagerIntegrationTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Category work;
+
+    @BeforeEach
+    void setUp() {
+        taskService.deleteAll();
+        categoryService.deleteAll();
+        work = categoryService.createCategory(new Category("Work"));
+        categoryService.createCategory(new Category("Personal"));
+    }
+
+    @Test
+    void shouldNotCacheCategoriesReadBeforeCreateCommits() {
+        assertEquals(2, categoryService.getAllCategories().size());
+
+        Category home = transactionTemplate.execute(status -> {
+            Category created = categoryService.createCategory(new Category("Home"));
+            assertEquals(2, CompletableFuture.supplyAsync(categoryService::getAllCategories).join().size());
+            return created;
+        });
+
+        assertEquals(3, categoryService.getAllCategories().size());
+        assertEquals(List.of(home.getId()), List.copyOf(categoryService.getExistingCategoryIds(List.of(home.getId()))));
+    }
+
+    @Test
+    void shouldNotCacheCategoriesReadBeforeDeleteCommits() {
+        assertEquals(2, categoryService.getAllCategories().size());
+        String version = categoryService.getCategoriesVersion();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            categoryService.deleteCategory(work.getId());
+            assertEquals(2, CompletableFuture.supplyAsync(categoryService::getAllCategories).join().size());
+        });
+
+        assertEquals(List.of("Personal"), categoryService.getAllCategories().stream().map(Category::getName).toList());
+        assertTrue(categoryService.getExistingCategoryIds(List.of(work.getId())).isEmpty());
+        assertNotEquals(version, categoryService.getCategoriesVersion());
+    }
+
+    @Test
+    void shouldNotCacheCategoriesReadBeforeDeleteAllCommits() {
+        assertEquals(2, categoryService.getAllCategories().size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            categoryService.deleteAll();
+            assertEquals(2, CompletableFuture.supplyAsync(categoryService::getAllCategories).join().size());
+        });
+
+        assertTrue(categoryService.getAllCategories().isEmpty());
+    }
+}
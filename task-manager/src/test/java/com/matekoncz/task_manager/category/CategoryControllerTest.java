@@ -8,7 +8,9 @@ import com.matekoncz.task_manager.service.user.Credentials;
 import com.matekoncz.task_manager.service.user.UserService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,6 +67,28 @@ public class CategoryControllerTest extends TaskManagerIntegrationTest {
 
     }
 
+    @Test
+    void shouldAnswerNotModifiedUntilCategoriesChange() {
+        categoryService.createCategory(new Category("Category 1"));
+        ResponseEntity<Category[]> first = restTemplate.exchange("/api/categories",
+                org.springframework.http.HttpMethod.GET, new HttpEntity<>(headers), Category[].class);
+        String etag = first.getHeaders().getETag();
+        assertNotNull(etag);
+
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<Category[]> unchanged = restTemplate.exchange("/api/categories",
+                org.springframework.http.HttpMethod.GET, new HttpEntity<>(headers), Category[].class);
+        assertEquals(304, unchanged.getStatusCode().value());
+        assertNull(unchanged.getBody());
+
+        categoryService.createCategory(new Category("Category 2"));
+        ResponseEntity<Category[]> changed = restTemplate.exchange("/api/categories",
+                org.springframework.http.HttpMethod.GET, new HttpEntity<>(headers), Category[].class);
+        assertEquals(200, changed.getStatusCode().value());
+        assertEquals(2, changed.getBody().length);
+        assertNotEquals(etag, changed.getHeaders().getETag());
+    }
+
     @Test
     void shouldDeleteCategory() {
         Category category = new Category("To Be Deleted");
@@ -0,0 +1,124 @@
+package com.matekoncz.task_manager.category;
+
+import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.model.Category;
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskChangeEvent;
+import com.matekoncz.task_manager.model.TaskChangeType;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.category.CategoryService;
+import com.matekoncz.task_manager.service.task.TaskChangeSubscription;
+import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.user.UserService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CategoryDeletionTest extends TaskManagerIntegrationTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    private Category work;
+    private List<Task> workTasks = new ArrayList<>();
+    private TaskChangeSubscription subscription;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskService.deleteAll();
+        userService.deleteAll();
+        categoryService.deleteAll();
+        User creator = userService.createUser(new User(null, "creator", "password"));
+        work = categoryService.createCategory(new Category("Work"));
+        workTasks.clear();
+        for (int i = 0; i < 3; i++) {
+            workTasks.add(taskService.createTask(new Task(null, "quarterly report " + i, Status.NEW, null, creator,
+                    LocalDate.of(2025, 10, 1), LocalDate.now(), Priority.LOW, work)));
+        }
+        taskService.createTask(new Task(null, "quarterly report uncategorized", Status.NEW, null, creator,
+                LocalDate.of(2025, 10, 1), LocalDate.now(), Priority.LOW, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (subscription != null) {
+            taskService.unsubscribeFromChanges(subscription);
+        }
+        taskService.deleteAll();
+    }
+
+    @Test
+    void shouldDetachTasksOfDeletedCategoryFromSearchAndCounts() {
+        assertEquals(3, countTasks(workFilter(null)));
+        assertEquals(3, countTasks(workFilter("report")));
+        assertEquals(3, taskService.getBoard(workFilter("report")).getTotal());
+
+        categoryService.deleteCategory(work.getId());
+
+        assertEquals(0, countTasks(workFilter(null)));
+        assertEquals(0, countTasks(workFilter("report")));
+        assertEquals(0, taskService.getBoard(workFilter("report")).getTotal());
+        TaskFilter uncategorized = new TaskFilter();
+        uncategorized.setDescription("report");
+        assertEquals(4, taskService.getBoard(uncategorized).getUncategorized());
+    }
+
+    @Test
+    void shouldDetachTasksWhenAllCategoriesAreDeleted() {
+        assertEquals(3, countTasks(workFilter("report")));
+
+        categoryService.deleteAll();
+
+        assertEquals(0, countTasks(workFilter("report")));
+        TaskFilter categorized = new TaskFilter();
+        categorized.setCategoryIds(List.of(work.getId()));
+        assertEquals(0, countTasks(categorized));
+    }
+
+    @Test
+    void shouldPublishRemovalToSubscribersOfDeletedCategory() throws Exception {
+        Queue<TaskChangeEvent> events = new ConcurrentLinkedQueue<>();
+        subscription = taskService.subscribeToChanges(workFilter(null), events::add);
+
+        categoryService.deleteCategory(work.getId());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (events.size() < workTasks.size() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(workTasks.stream().map(Task::getId).toList(),
+                events.stream().map(TaskChangeEvent::getTaskId).sorted().toList());
+        assertTrue(events.stream().allMatch(event -> event.getType() == TaskChangeType.DELETED));
+    }
+
+    private TaskFilter workFilter(String description) {
+        TaskFilter filter = new TaskFilter();
+        filter.setCategory(work);
+        filter.setDescription(description);
+        return filter;
+    }
+
+    private long countTasks(TaskFilter filter) {
+        return taskService.listTaskByFilter(filter, 0, 10, "", true, true).getNumberOfResults();
+    }
+}
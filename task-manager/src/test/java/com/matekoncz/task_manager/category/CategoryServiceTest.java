@@ -1,5 +1,6 @@
 package com.matekoncz.task_manager.category;
 
+import com.matekoncz.task_manager.service.category.CategoryDeletionEvent;
 import com.matekoncz.task_manager.service.category.CategoryService;
 import com.matekoncz.task_manager.exceptions.category.CategoryNotFoundException;
 import com.matekoncz.task_manager.model.Category;
@@ -10,10 +11,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,6 +26,9 @@ public class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -64,4 +70,67 @@ public class CategoryServiceTest {
         categoryService.deleteCategory(1L);
         verify(categoryRepository, times(1)).deleteById(1L);
     }
+
+    @Test
+    void shouldServeCategoryByIdFromCache() throws CategoryNotFoundException {
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category1));
+
+        categoryService.getCategoryById(1L);
+        Category result = categoryService.getCategoryById(1L);
+
+        assertEquals(category1, result);
+        verify(categoryRepository, times(1)).findById(1L);
+        assertEquals(1, categoryService.getCacheStatistics().getHits());
+        assertEquals(1, categoryService.getCacheStatistics().getMisses());
+    }
+
+    @Test
+    void shouldServeAllCategoriesFromCacheUntilCategoryIsCreated() {
+        when(categoryRepository.findAll()).thenReturn(List.of(category1), List.of(category1, category2));
+        when(categoryRepository.save(category2)).thenReturn(category2);
+
+        categoryService.getAllCategories();
+        assertEquals(1, categoryService.getAllCategories().size());
+        categoryService.createCategory(category2);
+        assertEquals(2, categoryService.getAllCategories().size());
+
+        verify(categoryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void shouldInvalidateCacheWhenCategoryIsDeleted() throws CategoryNotFoundException {
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category1));
+
+        categoryService.getCategoryById(1L);
+        categoryService.deleteCategory(1L);
+        categoryService.getCategoryById(1L);
+
+        verify(categoryRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void shouldResolveExistingIdsFromCachedCategories() {
+        when(categoryRepository.findAll()).thenReturn(List.of(category1, category2));
+
+        categoryService.getAllCategories();
+        Set<Long> result = categoryService.getExistingCategoryIds(Set.of(2L, 3L));
+
+        assertEquals(Set.of(2L), result);
+        verify(categoryRepository, never()).findExistingIds(any());
+    }
+
+    @Test
+    void shouldChangeVersionWhenCategoriesChange() {
+        when(categoryRepository.save(category1)).thenReturn(category1);
+
+        String initialVersion = categoryService.getCategoriesVersion();
+        categoryService.createCategory(category1);
+        String createdVersion = categoryService.getCategoriesVersion();
+        categoryService.deleteCategory(1L);
+
+        assertNotEquals(initialVersion, createdVersion);
+        assertNotEquals(createdVersion, categoryService.getCategoriesVersion());
+        verify(eventPublisher).publishEvent(argThat((CategoryDeletionEvent event) ->
+                event.getCategoryIds().equals(List.of(1L))));
+    }
 }
@@ -0,0 +1,72 @@
+package com.matekoncz.task_manager.task;
+
+import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.category.CategoryService;
+import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.user.UserService;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PreFlywaySchemaMigrationTest extends TaskManagerIntegrationTest {
+
+    private static final String URL = "jdbc:h2:mem:pre-flyway-test-db;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void preFlywayDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "sa");
+                Statement statement = connection.createStatement()) {
+            statement.execute("RUNSCRIPT FROM 'classpath:db/pre-flyway-schema.sql'");
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    void shouldBaselineBelowTheFirstMigration() {
+        List<String> versions = jdbcTemplate.queryForList("SELECT \"version\" FROM \"flyway_schema_history\" "
+                + "WHERE \"success\" AND \"version\" IS NOT NULL ORDER BY \"installed_rank\"", String.class);
+        assertEquals(List.of("0", "1", "2", "3", "4"), versions);
+    }
+
+    @Test
+    void shouldKeepExistingTasksAndAllocateNewIdsAfterThem() throws Exception {
+        Task existing = taskService.getTaskById(1L);
+        User creator = userService.getUserById(existing.getCreator().getId());
+
+        Task created = taskService.createTask(new Task(null, "after upgrade", Status.NEW, null, creator,
+                LocalDate.of(2025, 10, 1), LocalDate.now(), Priority.LOW,
+                categoryService.getCategoryById(existing.getCategory().getId())));
+
+        assertEquals("legacy task 1", existing.getDescription());
+        assertTrue(created.getId() > 3, "expected an id after the existing tasks but got " + created.getId());
+        assertEquals(4, taskService.getAllTasks().size());
+    }
+}
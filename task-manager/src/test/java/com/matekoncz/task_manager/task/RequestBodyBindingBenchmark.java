@@ -0,0 +1,70 @@
+package com.matekoncz.task_manager.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskRequest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = JacksonAutoConfiguration.class)
+public class RequestBodyBindingBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 200_000;
+    private static final byte[] BODY = ("{\"id\":42,\"description\":\"" + "benchmark task description ".repeat(8)
+            + "\",\"status\":\"IN_PROGRESS\",\"priority\":\"HIGH\",\"dueDate\":\"2025-10-01\","
+            + "\"createdAt\":\"2025-09-01\",\"assignee\":{\"id\":2,\"username\":\"assignee\"},"
+            + "\"creator\":{\"id\":1,\"username\":\"creator\"},\"category\":{\"id\":3,\"name\":\"Work\"}}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private interface Binding {
+        Object bind(InputStream body) throws IOException;
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldAllocateLessWhenBindingFromStream() throws IOException {
+        ObjectReader taskReader = objectMapper.readerFor(Task.class);
+        ObjectReader taskRequestReader = objectMapper.readerFor(TaskRequest.class);
+
+        long viaString = measure("String + readValue(Task)", body -> taskReader
+                .readValue(StreamUtils.copyToString(body, StandardCharsets.UTF_8)));
+        long viaStream = measure("readValue(InputStream, TaskRequest)", taskRequestReader::readValue);
+
+        assertTrue(viaStream < viaString);
+    }
+
+    private long measure(String name, Binding binding) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            binding.bind(new ByteArrayInputStream(BODY));
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            binding.bind(new ByteArrayInputStream(BODY));
+        }
+        long elapsed = System.nanoTime() - started;
+        long bytesPerRequest = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / MEASURED_ITERATIONS;
+        System.out.printf("%-40s %6d bytes/request %6d ns/request%n", name, bytesPerRequest,
+                elapsed / MEASURED_ITERATIONS);
+        return bytesPerRequest;
+    }
+}
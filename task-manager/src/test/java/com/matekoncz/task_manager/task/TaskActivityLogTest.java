@@ -0,0 +1,114 @@
+package com.matekoncz.task_manager.task;
+
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskActivityStatistics;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.task.TaskActivityLog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TaskActivityLogTest {
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private Queue<SqlParameterSource> inserted;
+    private TaskActivityLog activityLog;
+    private User creator;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        inserted = new ConcurrentLinkedQueue<>();
+        creator = new User(1L, "creator", null);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        activityLog.destroy();
+    }
+
+    @Test
+    void shouldRecordOnlyChangedFields() throws Exception {
+        recordInserts(null);
+        activityLog = new TaskActivityLog(jdbcTemplate, 100, 10, Duration.ofSeconds(1), Duration.ofSeconds(5));
+        Task previous = task(1L, Status.NEW, null);
+        Task updated = task(1L, Status.IN_PROGRESS, new User(2L, "assignee", null));
+
+        activityLog.recordUpdated(List.of(previous), List.of(updated));
+
+        assertTrue(activityLog.flush(Duration.ofSeconds(5)));
+        List<String> fields = inserted.stream().map(entry -> (String) entry.getValue("field")).toList();
+        assertEquals(List.of("status", "assignee"), fields);
+        SqlParameterSource status = inserted.peek();
+        assertEquals("NEW", status.getValue("oldValue"));
+        assertEquals("IN_PROGRESS", status.getValue("newValue"));
+        assertEquals("UPDATED", status.getValue("type"));
+    }
+
+    @Test
+    void shouldDropEntriesWhenQueueStaysFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        recordInserts(release);
+        activityLog = new TaskActivityLog(jdbcTemplate, 2, 1, Duration.ofMillis(10), Duration.ofSeconds(5));
+
+        activityLog.recordDeleted(LongStream.rangeClosed(1, 10).boxed().toList());
+
+        TaskActivityStatistics statistics = activityLog.getStatistics();
+        assertTrue(statistics.getDropped() > 0);
+        release.countDown();
+        assertTrue(activityLog.flush(Duration.ofSeconds(5)));
+        assertEquals(10, inserted.size() + activityLog.getStatistics().getDropped());
+    }
+
+    @Test
+    void shouldWriteQueuedEntriesOnShutdown() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        recordInserts(release);
+        activityLog = new TaskActivityLog(jdbcTemplate, 1000, 50, Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+        activityLog.recordCreated(LongStream.rangeClosed(1, 200).mapToObj(id -> task(id, Status.NEW, null)).toList());
+        release.countDown();
+        activityLog.destroy();
+
+        assertEquals(200, inserted.size());
+        assertEquals(200, activityLog.getStatistics().getWritten());
+        activityLog.recordDeleted(List.of(1L));
+        assertEquals(1, activityLog.getStatistics().getDropped());
+    }
+
+    private void recordInserts(CountDownLatch release) {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenAnswer(invocation -> {
+            if (release != null) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            SqlParameterSource[] batch = invocation.getArgument(1);
+            inserted.addAll(List.of(batch));
+            return new int[batch.length];
+        });
+    }
+
+    private Task task(Long id, Status status, User assignee) {
+        return new Task(id, "task " + id, status, assignee, creator, LocalDate.of(2025, 10, 1),
+                LocalDate.of(2025, 9, 1), Priority.BASIC, null);
+    }
+}
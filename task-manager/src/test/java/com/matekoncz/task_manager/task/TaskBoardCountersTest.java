@@ -0,0 +1,128 @@
+package com.matekoncz.task_manager.task;
+
+import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.model.Category;
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.category.CategoryService;
+import com.matekoncz.task_manager.service.task.TaskBoard;
+import com.matekoncz.task_manager.service.task.TaskBoardCounters;
+import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.user.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestPropertySource(properties = "task-manager.board.counters.enabled=true")
+public class TaskBoardCountersTest extends TaskManagerIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TaskBoardCounters boardCounters;
+
+    private User creator;
+    private Category workCategory;
+    private Category personalCategory;
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskService.deleteAll();
+        userService.deleteAll();
+        categoryService.deleteAll();
+        creator = userService.createUser(new User(null, "creator", "password"));
+        workCategory = categoryService.createCategory(new Category("Work"));
+        personalCategory = categoryService.createCategory(new Category("Personal"));
+
+        tasks = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Category category = i % 3 == 0 ? workCategory : i % 3 == 1 ? personalCategory : null;
+            tasks.add(taskService.createTask(new Task(null, "desc" + i, Status.values()[i % 2], null, creator,
+                    LocalDate.of(2025, 10, i + 1), LocalDate.now(), Priority.values()[i % 4], category)));
+        }
+    }
+
+    @Test
+    void shouldMaintainCountersOnCreate() {
+        assertBoardMatchesGroupBy();
+        TaskBoard board = boardCounters.read();
+        assertEquals(12, board.getTotal());
+        assertEquals(4, board.getByCategory().get(workCategory.getId()));
+        assertEquals(4, board.getUncategorized());
+    }
+
+    @Test
+    void shouldMaintainCountersOnUpdate() throws Exception {
+        Task task = tasks.get(0);
+        Task updatedTask = new Task(task.getId(), "moved", Status.CANCELLED, null, creator, task.getDueDate(),
+                null, Priority.CRITICAL, personalCategory);
+
+        taskService.updateTask(task.getId(), updatedTask);
+        taskService.updateTasks(List.of(new Task(tasks.get(1).getId(), "moved", Status.CANCELLED, null, null,
+                LocalDate.now(), null, Priority.CRITICAL, null)));
+
+        assertBoardMatchesGroupBy();
+        TaskBoard board = boardCounters.read();
+        assertEquals(2, board.getByStatusAndPriority().get(Status.CANCELLED).get(Priority.CRITICAL));
+        assertEquals(3, board.getByCategory().get(workCategory.getId()));
+        assertEquals(4, board.getByCategory().get(personalCategory.getId()));
+        assertEquals(5, board.getUncategorized());
+    }
+
+    @Test
+    void shouldMaintainCountersOnDelete() throws Exception {
+        taskService.deleteTask(tasks.get(0).getId());
+        taskService.deleteTasks(List.of(tasks.get(1).getId(), tasks.get(2).getId()));
+
+        assertBoardMatchesGroupBy();
+        assertEquals(9, boardCounters.read().getTotal());
+    }
+
+    @Test
+    void shouldMoveTasksOfDeletedCategoryToUncategorized() {
+        categoryService.deleteCategory(workCategory.getId());
+
+        assertBoardMatchesGroupBy();
+        TaskBoard board = boardCounters.read();
+        assertNull(board.getByCategory().get(workCategory.getId()));
+        assertEquals(8, board.getUncategorized());
+    }
+
+    @Test
+    void shouldRebuildCounters() {
+        boardCounters.clear();
+        boardCounters.rebuild();
+
+        assertBoardMatchesGroupBy();
+    }
+
+    private void assertBoardMatchesGroupBy() {
+        TaskBoard counted = boardCounters.read();
+        TaskFilter allStatuses = new TaskFilter();
+        allStatuses.setStatuses(List.of(Status.values()));
+        TaskBoard grouped = taskService.getBoard(allStatuses);
+        assertEquals(grouped.getTotal(), counted.getTotal());
+        assertEquals(grouped.getByStatusAndPriority(), counted.getByStatusAndPriority());
+        assertEquals(grouped.getByCategory(), counted.getByCategory());
+        assertEquals(grouped.getUncategorized(), counted.getUncategorized());
+    }
+}
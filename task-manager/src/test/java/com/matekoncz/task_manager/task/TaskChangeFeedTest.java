@@ -0,0 +1,196 @@
+package com.matekoncz.task_manager.task;
+
+import com.matekoncz.task_manager.model.Category;
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskChangeEvent;
+import com.matekoncz.task_manager.model.TaskChangeType;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.task.TaskChangeFeed;
+import com.matekoncz.task_manager.service.task.TaskChangeSubscription;
+import com.matekoncz.task_manager.service.task.TaskSearchIndex;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskChangeFeedTest {
+
+    private static final int BUFFER_SIZE = 8;
+
+    private TaskSearchIndex searchIndex;
+    private TaskChangeFeed changeFeed;
+    private User creator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new TaskSearchIndex();
+        changeFeed = new TaskChangeFeed(searchIndex, BUFFER_SIZE);
+        creator = new User(1L, "creator", null);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        changeFeed.destroy();
+        searchIndex.destroy();
+    }
+
+    @Test
+    void shouldDeliverMatchingEventsToThousandsOfSubscribers() throws Exception {
+        int subscriberCount = 3000;
+        List<Queue<TaskChangeEvent>> received = new ArrayList<>();
+        for (int i = 0; i < subscriberCount; i++) {
+            TaskFilter filter = new TaskFilter();
+            filter.setStatus(Status.values()[i % Status.values().length]);
+            Queue<TaskChangeEvent> events = new ConcurrentLinkedQueue<>();
+            changeFeed.subscribe(filter, events::add);
+            received.add(events);
+        }
+
+        for (long id = 1; id <= BUFFER_SIZE; id++) {
+            changeFeed.publishCreated(List.of(task(id, "task " + id, Status.values()[(int) id % 4], null)));
+        }
+
+        int expectedPerSubscriber = BUFFER_SIZE / Status.values().length;
+        awaitUntil(() -> received.stream().allMatch(events -> events.size() == expectedPerSubscriber));
+        for (int i = 0; i < subscriberCount; i++) {
+            Status status = Status.values()[i % Status.values().length];
+            assertTrue(received.get(i).stream()
+                    .allMatch(event -> event.getType() == TaskChangeType.CREATED
+                            && event.getTask().getStatus() == status));
+        }
+        assertEquals(subscriberCount * (long) expectedPerSubscriber, changeFeed.getStatistics().getDelivered());
+        assertEquals(0, changeFeed.getStatistics().getDropped());
+    }
+
+    @Test
+    void shouldDropEventsOfSlowSubscriberAndAskItToResync() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        Queue<TaskChangeEvent> slowEvents = new ConcurrentLinkedQueue<>();
+        TaskChangeSubscription slow = changeFeed.subscribe(new TaskFilter(), event -> {
+            awaitQuietly(blocked);
+            slowEvents.add(event);
+        });
+        Queue<TaskChangeEvent> fastEvents = new ConcurrentLinkedQueue<>();
+        changeFeed.subscribe(new TaskFilter(), fastEvents::add);
+
+        int published = BUFFER_SIZE * 4;
+        for (int id = 1; id <= published; id++) {
+            changeFeed.publishCreated(List.of(task((long) id, "task " + id, Status.NEW, null)));
+            int expected = id;
+            awaitUntil(() -> fastEvents.size() == expected);
+        }
+        blocked.countDown();
+        awaitUntil(() -> slowEvents.stream().anyMatch(event -> event.getType() == TaskChangeType.RESYNC));
+
+        assertTrue(slow.getDroppedCount() > 0);
+        assertTrue(slowEvents.size() <= BUFFER_SIZE + 2);
+        assertEquals(slow.getDroppedCount(), changeFeed.getStatistics().getDropped());
+    }
+
+    @Test
+    void shouldSendDeletedWhenTaskLeavesFilter() throws Exception {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatuses(List.of(Status.NEW, Status.IN_PROGRESS));
+        filter.setDescription("report");
+        Queue<TaskChangeEvent> events = new ConcurrentLinkedQueue<>();
+        changeFeed.subscribe(filter, events::add);
+
+        Task previous = task(1L, "weekly report", Status.NEW, null);
+        Task moved = task(1L, "weekly report", Status.IN_PROGRESS, null);
+        Task completed = task(1L, "weekly report", Status.COMPLETED, null);
+        Task unrelated = task(2L, "groceries", Status.NEW, null);
+        changeFeed.publishUpdated(List.of(previous, unrelated), List.of(moved, unrelated));
+        changeFeed.publishUpdated(List.of(moved), List.of(completed));
+
+        awaitUntil(() -> events.size() == 2);
+        List<TaskChangeEvent> delivered = List.copyOf(events);
+        assertEquals(TaskChangeType.UPDATED, delivered.get(0).getType());
+        assertEquals(Status.IN_PROGRESS, delivered.get(0).getTask().getStatus());
+        assertEquals(TaskChangeType.DELETED, delivered.get(1).getType());
+        assertEquals(1L, delivered.get(1).getTaskId());
+    }
+
+    @Test
+    void shouldMatchTextWithoutSearchableTermsAsSubstring() throws Exception {
+        TaskFilter filter = new TaskFilter();
+        filter.setDescription("++");
+        Queue<TaskChangeEvent> events = new ConcurrentLinkedQueue<>();
+        changeFeed.subscribe(filter, events::add);
+
+        changeFeed.publishCreated(List.of(task(1L, "groceries", Status.NEW, null),
+                task(2L, "fix C++ build", Status.NEW, null)));
+
+        awaitUntil(() -> !events.isEmpty());
+        Thread.sleep(50);
+        assertEquals(List.of(2L), events.stream().map(TaskChangeEvent::getTaskId).toList());
+    }
+
+    @Test
+    void shouldFilterByCategoryAndAssignee() throws Exception {
+        Category work = new Category("Work");
+        work.setId(5L);
+        TaskFilter filter = new TaskFilter();
+        filter.setCategoryIds(List.of(5L));
+        filter.setUnassigned(true);
+        Queue<TaskChangeEvent> events = new ConcurrentLinkedQueue<>();
+        changeFeed.subscribe(filter, events::add);
+
+        Task matching = task(1L, "a", Status.NEW, work);
+        Task assigned = task(2L, "b", Status.NEW, work);
+        assigned.setAssignee(creator);
+        Task uncategorized = task(3L, "c", Status.NEW, null);
+        changeFeed.publishCreated(List.of(matching, assigned, uncategorized));
+        changeFeed.publishDeleted(List.of(7L));
+
+        awaitUntil(() -> events.size() == 2);
+        assertEquals(1L, events.poll().getTaskId());
+        assertEquals(7L, events.poll().getTaskId());
+    }
+
+    @Test
+    void shouldUnsubscribeListenerThatFails() throws Exception {
+        changeFeed.subscribe(new TaskFilter(), event -> {
+            throw new IOException("client went away");
+        });
+
+        changeFeed.publishResync();
+
+        awaitUntil(() -> changeFeed.getSubscriberCount() == 0);
+    }
+
+    private Task task(Long id, String description, Status status, Category category) {
+        return new Task(id, description, status, null, creator, LocalDate.of(2025, 10, 1),
+                LocalDate.of(2025, 9, 1), Priority.BASIC, category);
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition was not met in time");
+            Thread.sleep(10);
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.matekoncz.task_manager.task;
+
+import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.user.Credentials;
+import com.matekoncz.task_manager.service.user.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+@TestPropertySource(properties = "task-manager.changes.timeout=PT1S")
+public class TaskChangeStreamTimeoutTest extends TaskManagerIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskService.deleteAll();
+        userService.deleteAll();
+        User user = new User(null, "subscriber", "password");
+        Credentials credentials = Credentials.of(user);
+        userService.createUser(user);
+        ResponseEntity<User> loginResponse = restTemplate.postForEntity("/api/auth/login", credentials, User.class);
+        headers = new HttpHeaders();
+        headers.set("Cookie", loginResponse.getHeaders().getFirst(HttpHeaders.SET_COOKIE));
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldCompleteStreamWhenSubscriptionTimesOut(CapturedOutput output) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(restTemplate.getRootUri() + "/api/tasks/changes"))
+                .header(HttpHeaders.COOKIE, headers.getFirst("Cookie"))
+                .GET()
+                .build();
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+            assertEquals(200, response.statusCode());
+
+            try (Stream<String> lines = response.body()) {
+                List<String> received = lines.filter(line -> !line.isBlank()).toList();
+                assertEquals(List.of(":subscribed"), received);
+            }
+        }
+
+        assertEquals(0, taskService.getChangeFeedStatistics().getSubscribers());
+        assertFalse(output.getAll().contains("Failure in @ExceptionHandler"), output.getAll());
+    }
+}
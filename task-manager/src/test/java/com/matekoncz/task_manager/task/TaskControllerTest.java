@@ -5,22 +5,40 @@ import com.matekoncz.task_manager.exceptions.task.TaskNotFoundException;
 import com.matekoncz.task_manager.model.Priority;
 import com.matekoncz.task_manager.model.Status;
 import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskActivity;
+import com.matekoncz.task_manager.model.TaskChangeType;
+import com.matekoncz.task_manager.model.TaskFilter;
 import com.matekoncz.task_manager.model.Category;
 import com.matekoncz.task_manager.model.User;
 import com.matekoncz.task_manager.service.category.CategoryService;
 import com.matekoncz.task_manager.service.task.SearchResult;
+import com.matekoncz.task_manager.service.task.TaskActivityLog;
+import com.matekoncz.task_manager.service.task.TaskActivityPage;
+import com.matekoncz.task_manager.service.task.TaskBatchResult;
+import com.matekoncz.task_manager.service.task.TaskBoard;
 import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.task.TaskSummarySearchResult;
 import com.matekoncz.task_manager.service.user.Credentials;
 import com.matekoncz.task_manager.service.user.UserService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -37,6 +55,9 @@ public class TaskControllerTest extends TaskManagerIntegrationTest {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private TaskActivityLog activityLog;
+
     private User creator;
     private User assignee;
     private List<Task> allTasks;
@@ -92,6 +113,16 @@ public class TaskControllerTest extends TaskManagerIntegrationTest {
         assertThat(response.getBody().getCategory().getName(), is("Work"));
     }
 
+    @Test
+    void shouldRejectMalformedTaskBody() {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<String> entity = new HttpEntity<>("{\"description\": ", headers);
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/tasks", entity, String.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
+    }
+
     @Test
     void shouldUpdateTaskCategory() {
         Task task = allTasks.get(0);
@@ -107,6 +138,67 @@ public class TaskControllerTest extends TaskManagerIntegrationTest {
         assertThat(response.getBody().getCategory().getName(), is("Personal"));
     }
 
+    @Test
+    void shouldAnswerNotModifiedUntilTaskChanges() {
+        Task task = allTasks.get(0);
+        ResponseEntity<Task> first = restTemplate.exchange("/api/tasks/" + task.getId(), HttpMethod.GET,
+                new HttpEntity<>(headers), Task.class);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag, is(notNullValue()));
+
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<Task> unchanged = restTemplate.exchange("/api/tasks/" + task.getId(), HttpMethod.GET,
+                new HttpEntity<>(headers), Task.class);
+        assertThat(unchanged.getStatusCode(), is(HttpStatus.NOT_MODIFIED));
+        assertThat(unchanged.getBody(), is(nullValue()));
+
+        categoryService.deleteCategory(workCategory.getId());
+        ResponseEntity<Task> changed = restTemplate.exchange("/api/tasks/" + task.getId(), HttpMethod.GET,
+                new HttpEntity<>(headers), Task.class);
+        assertThat(changed.getStatusCode(), is(HttpStatus.OK));
+        assertThat(changed.getBody().getCategory(), is(nullValue()));
+        assertThat(changed.getHeaders().getETag(), is(not(etag)));
+    }
+
+    @Test
+    void shouldRejectUpdateOfStaleTaskVersion() {
+        Task task = allTasks.get(0);
+        task.setDescription("first update");
+        restTemplate.exchange("/api/tasks/" + task.getId(), HttpMethod.PUT, new HttpEntity<>(task, headers),
+                Task.class);
+
+        task.setDescription("stale update");
+        ResponseEntity<String> response = restTemplate.exchange("/api/tasks/" + task.getId(), HttpMethod.PUT,
+                new HttpEntity<>(task, headers), String.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.CONFLICT));
+    }
+
+    @Test
+    void shouldListTaskActivityNewestFirst() throws Exception {
+        Task task = allTasks.get(0);
+        task.setDescription("first update");
+        restTemplate.exchange("/api/tasks/" + task.getId(), HttpMethod.PUT, new HttpEntity<>(task, headers),
+                Task.class);
+        task.setVersion(null);
+        task.setStatus(Status.CANCELLED);
+        restTemplate.exchange("/api/tasks/" + task.getId(), HttpMethod.PUT, new HttpEntity<>(task, headers),
+                Task.class);
+        assertThat(activityLog.flush(Duration.ofSeconds(5)), is(true));
+
+        ResponseEntity<TaskActivityPage> response = restTemplate.exchange(
+                "/api/tasks/" + task.getId() + "/activity?pageSize=1", HttpMethod.GET, new HttpEntity<>(headers),
+                TaskActivityPage.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody().isHasNext(), is(true));
+        TaskActivity latest = response.getBody().getEntries().get(0);
+        assertThat(latest.getType(), is(TaskChangeType.UPDATED));
+        assertThat(latest.getField(), is("status"));
+        assertThat(latest.getNewValue(), is("CANCELLED"));
+        assertThat(latest.getActorId(), is(creator.getId()));
+    }
+
     @Test
     void shouldFilterByCategory() {
         Task filter = new Task();
@@ -120,6 +212,84 @@ public class TaskControllerTest extends TaskManagerIntegrationTest {
         assertThat(response.getBody().getTasks(), everyItem(hasProperty("category", hasProperty("name", is("Work")))));
     }
 
+    @Test
+    void shouldFilterByMultipleStatusesAndDueDateRange() {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatuses(List.of(Status.NEW, Status.COMPLETED));
+        filter.setDueDateFrom(LocalDate.of(2025, 10, 5));
+        filter.setDueDateTo(LocalDate.of(2025, 10, 20));
+        HttpEntity<TaskFilter> entity = new HttpEntity<>(filter, headers);
+
+        ResponseEntity<SearchResult> response = restTemplate
+                .postForEntity("/api/tasks/all?offset=0&pageSize=100&orderBy=dueDate", entity, SearchResult.class);
+
+        long expected = allTasks.stream()
+                .filter(t -> t.getStatus() == Status.NEW || t.getStatus() == Status.COMPLETED)
+                .filter(t -> !t.getDueDate().isBefore(LocalDate.of(2025, 10, 5)))
+                .filter(t -> !t.getDueDate().isAfter(LocalDate.of(2025, 10, 20)))
+                .count();
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody().getNumberOfResults(), is(expected));
+        assertThat(response.getBody().getTasks(), everyItem(hasProperty("status", oneOf(Status.NEW, Status.COMPLETED))));
+    }
+
+    @Test
+    void shouldExposeTaskListTimingsByFilterShape() {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatuses(List.of(Status.NEW));
+        filter.setDueDateFrom(LocalDate.of(2025, 10, 5));
+        restTemplate.postForEntity("/api/tasks/all?offset=0&pageSize=10", new HttpEntity<>(filter, headers),
+                SearchResult.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(),
+                containsString("task_manager_tasks_list_seconds_count{filter=\"statuses+dueDateRange\""));
+        assertThat(response.getBody(), containsString("task_manager_tasks_list_seconds_bucket"));
+        assertThat(response.getBody(),
+                containsString("task_manager_users_authenticate_seconds_count{outcome=\"success\""));
+        assertThat(response.getBody(), containsString("spring_data_repository_invocations_seconds"));
+        assertThat(response.getBody(), containsString("hikaricp_connections_active"));
+        assertThat(response.getBody(), containsString("hikaricp_connections_pending{pool=\"task-manager\""));
+        assertThat(response.getBody(), containsString("hikaricp_connections_acquire_seconds_bucket"));
+        assertThat(response.getBody(), containsString("hibernate_statements_total"));
+    }
+
+    @Test
+    void shouldFilterUnassignedTasksInMultipleCategories() throws Exception {
+        Category otherCategory = categoryService.createCategory(new Category("Other"));
+        Task unassigned = taskService.createTask(new Task(null, "unassigned", Status.NEW, null, creator,
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 9, 1), Priority.BASIC, workCategory));
+        taskService.createTask(new Task(null, "unassigned elsewhere", Status.NEW, null, creator,
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 9, 1), Priority.BASIC, otherCategory));
+        TaskFilter filter = new TaskFilter();
+        filter.setUnassigned(true);
+        filter.setCategoryIds(List.of(workCategory.getId(), personalCategory.getId()));
+        HttpEntity<TaskFilter> entity = new HttpEntity<>(filter, headers);
+
+        ResponseEntity<SearchResult> response = restTemplate.postForEntity("/api/tasks/all", entity,
+                SearchResult.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody().getNumberOfResults(), is(1L));
+        assertThat(response.getBody().getTasks().get(0).getId(), is(unassigned.getId()));
+    }
+
+    @Test
+    void shouldFilterByCreatedAtRange() {
+        TaskFilter filter = new TaskFilter();
+        filter.setCreatedAtFrom(LocalDate.of(2025, 9, 10));
+        filter.setCreatedAtTo(LocalDate.of(2025, 9, 12));
+        HttpEntity<TaskFilter> entity = new HttpEntity<>(filter, headers);
+
+        ResponseEntity<SearchResult> response = restTemplate.postForEntity("/api/tasks/all?pageSize=100", entity,
+                SearchResult.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody().getNumberOfResults(), is(3L));
+    }
+
     @Test
     void shouldDeleteTask() {
         Task task = allTasks.get(0);
@@ -200,6 +370,27 @@ public class TaskControllerTest extends TaskManagerIntegrationTest {
         assertThat(response.getBody().getTasks(), everyItem(hasProperty("description", containsString("desc1"))));
     }
 
+    @Test
+    void shouldFallBackToSubstringMatchForTextWithoutSearchableTerms() throws Exception {
+        taskService.createTask(new Task(null, "fix C++ build", Status.NEW, null, creator, LocalDate.now(),
+                LocalDate.now(), Priority.LOW, null));
+        taskService.createTask(new Task(null, "100% done", Status.NEW, null, creator, LocalDate.now(),
+                LocalDate.now(), Priority.LOW, null));
+        Task filter = new Task();
+        filter.setDescription("%");
+        HttpEntity<Task> entity = new HttpEntity<>(filter, headers);
+
+        ResponseEntity<SearchResult> response = restTemplate
+                .postForEntity("/api/tasks/all?offset=0&orderBy=&ascending=true", entity, SearchResult.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody().getNumberOfResults(), is(1L));
+        assertThat(response.getBody().getTasks(), contains(hasProperty("description", is("100% done"))));
+        TaskFilter plusFilter = new TaskFilter();
+        plusFilter.setDescription("++");
+        assertThat(taskService.getBoard(plusFilter).getTotal(), is(1L));
+    }
+
     @Test
     void shouldFilterByAllFieldsCombined() {
         LocalDate dueDate = LocalDate.of(2025, 10, 5);
@@ -345,4 +536,319 @@ public class TaskControllerTest extends TaskManagerIntegrationTest {
         assertThat(response.getStatusCode(), is(HttpStatus.OK));
         assertThat(response.getBody().getTasks().get(0).getPriority(), notNullValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldWalkEveryPageWithCursor() {
+        Task filter = new Task();
+        HttpEntity<Task> entity = new HttpEntity<>(filter, headers);
+
+        List<Task> seen = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            ResponseEntity<SearchResult> response = restTemplate.postForEntity(
+                    "/api/tasks/all?orderBy=dueDate&ascending=true&cursor=" + cursor, entity, SearchResult.class);
+            assertThat(response.getStatusCode(), is(HttpStatus.OK));
+            seen.addAll(response.getBody().getTasks());
+            cursor = response.getBody().getNextCursor();
+            pages++;
+        }
+
+        assertThat(pages, is(3));
+        assertThat(seen, hasSize(25));
+        Set<Long> ids = new HashSet<>();
+        seen.forEach(t -> ids.add(t.getId()));
+        assertThat(ids, hasSize(25));
+        for (int i = 1; i < seen.size(); i++) {
+            assertThat(seen.get(i).getDueDate(), greaterThanOrEqualTo(seen.get(i - 1).getDueDate()));
+        }
+    }
+
+    @Test
+    void shouldWalkFilteredPagesWithCursorDescending() {
+        Task filter = new Task();
+        filter.setCategory(workCategory);
+        HttpEntity<Task> entity = new HttpEntity<>(filter, headers);
+
+        List<Task> seen = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            ResponseEntity<SearchResult> response = restTemplate.postForEntity(
+                    "/api/tasks/all?orderBy=status&ascending=false&cursor=" + cursor, entity, SearchResult.class);
+            seen.addAll(response.getBody().getTasks());
+            cursor = response.getBody().getNextCursor();
+        }
+
+        assertThat(seen, hasSize(13));
+        assertThat(seen, everyItem(hasProperty("category", hasProperty("name", is("Work")))));
+        for (int i = 1; i < seen.size(); i++) {
+            assertThat(seen.get(i).getStatus(), lessThanOrEqualTo(seen.get(i - 1).getStatus()));
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() {
+        HttpEntity<Task> entity = new HttpEntity<>(new Task(), headers);
+
+        ResponseEntity<String> response = restTemplate
+                .postForEntity("/api/tasks/all?orderBy=dueDate&cursor=garbage", entity, String.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void shouldSkipTotalWhenNotRequested() {
+        HttpEntity<Task> entity = new HttpEntity<>(new Task(), headers);
+
+        ResponseEntity<SearchResult> response = restTemplate
+                .postForEntity("/api/tasks/all?offset=20&withTotal=false", entity, SearchResult.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody().getTasks(), hasSize(5));
+        assertThat(response.getBody().isHasNext(), is(false));
+        assertThat(response.getBody().getNumberOfResults(), is(SearchResult.UNKNOWN_NUMBER_OF_RESULTS));
+    }
+
+    @Test
+    void shouldRefreshCachedTotalAfterTaskIsCreated() {
+        HttpEntity<Task> filterEntity = new HttpEntity<>(new Task(), headers);
+        ResponseEntity<SearchResult> before = restTemplate
+                .postForEntity("/api/tasks/all?offset=0", filterEntity, SearchResult.class);
+        assertThat(before.getBody().getNumberOfResults(), is(25L));
+
+        Task task = new Task(null, "new", Status.NEW, null, creator, LocalDate.now(), LocalDate.now(),
+                Priority.BASIC, null);
+        restTemplate.postForEntity("/api/tasks", new HttpEntity<>(task, headers), Task.class);
+
+        ResponseEntity<SearchResult> after = restTemplate
+                .postForEntity("/api/tasks/all?offset=10", filterEntity, SearchResult.class);
+        assertThat(after.getBody().getNumberOfResults(), is(26L));
+        assertThat(after.getBody().isHasNext(), is(true));
+    }
+
+    @Test
+    void shouldReturnRequestedPageSize() {
+        HttpEntity<Task> entity = new HttpEntity<>(new Task(), headers);
+
+        ResponseEntity<SearchResult> response = restTemplate
+                .postForEntity("/api/tasks/all?offset=0&pageSize=20", entity, SearchResult.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody().getTasks(), hasSize(20));
+        assertThat(response.getBody().getNumberOfResults(), is(25L));
+    }
+
+    @Test
+    void shouldListTaskSummaries() {
+        Task uncategorized = new Task(null, "uncategorized", Status.NEW, null, creator, LocalDate.now(),
+                LocalDate.now(), Priority.BASIC, null);
+        restTemplate.postForEntity("/api/tasks", new HttpEntity<>(uncategorized, headers), Task.class);
+        Task filter = new Task();
+        filter.setStatus(Status.NEW);
+        HttpEntity<Task> entity = new HttpEntity<>(filter, headers);
+
+        ResponseEntity<TaskSummarySearchResult> response = restTemplate.postForEntity(
+                "/api/tasks/all?projection=summary&pageSize=50&orderBy=dueDate", entity,
+                TaskSummarySearchResult.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody().getNumberOfResults(), is(8L));
+        assertThat(response.getBody().getTasks(), hasSize(8));
+        assertThat(response.getBody().getTasks(), everyItem(hasProperty("status", is(Status.NEW))));
+        assertThat(response.getBody().getTasks(), hasItem(allOf(
+                hasProperty("description", is("uncategorized")),
+                hasProperty("assigneeId", nullValue()),
+                hasProperty("categoryId", nullValue()))));
+    }
+
+    @Test
+    void shouldNotSerializeEntitiesInTaskSummaries() {
+        HttpEntity<Task> entity = new HttpEntity<>(new Task(), headers);
+
+        ResponseEntity<String> response = restTemplate
+                .postForEntity("/api/tasks/all?projection=summary", entity, String.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody(), not(containsString("password")));
+        assertThat(response.getBody(), not(containsString("creator")));
+    }
+
+    @Test
+    void shouldStreamAllTasks() {
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<Task[]> response = restTemplate.exchange("/api/tasks/all", HttpMethod.GET, entity,
+                Task[].class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getBody().length, is(25));
+        assertThat(response.getBody()[0].getCreator().getUsername(), is(creator.getUsername()));
+    }
+
+    @Test
+    void shouldExportFilteredTasksAsNdjson() throws Exception {
+        Task filter = new Task();
+        filter.setCategory(workCategory);
+        HttpEntity<Task> entity = new HttpEntity<>(filter, headers);
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/tasks/export", entity, String.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_NDJSON), is(true));
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines.length, is(13));
+        for (String line : lines) {
+            Task task = objectMapper.readValue(line, Task.class);
+            assertThat(task.getCategory().getName(), is("Work"));
+        }
+    }
+
+    @Test
+    void shouldCountFilteredTasksByStatusPriorityAndCategory() {
+        TaskFilter filter = new TaskFilter();
+        filter.setCategory(workCategory);
+        HttpEntity<TaskFilter> entity = new HttpEntity<>(filter, headers);
+
+        ResponseEntity<TaskBoard> response = restTemplate.postForEntity("/api/tasks/board", entity, TaskBoard.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        TaskBoard board = response.getBody();
+        assertThat(board.getTotal(), is(13L));
+        assertThat(board.getByStatusAndPriority().get(Status.NEW).get(Priority.LOW), is(7L));
+        assertThat(board.getByStatusAndPriority().get(Status.COMPLETED).get(Priority.HIGH), is(6L));
+        assertThat(board.getByStatusAndPriority().keySet(), containsInAnyOrder(Status.NEW, Status.COMPLETED));
+        assertThat(board.getByCategory().get(workCategory.getId()), is(13L));
+        assertThat(board.getUncategorized(), is(0L));
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldStreamMatchingTaskChanges() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create(restTemplate.getRootUri() + "/api/tasks/changes?status=CANCELLED"))
+                .header(HttpHeaders.COOKIE, headers.getFirst("Cookie"))
+                .GET()
+                .build();
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+            assertThat(response.statusCode(), is(200));
+
+            Task ignored = allTasks.get(0);
+            Task cancelled = allTasks.get(1);
+            cancelled.setStatus(Status.CANCELLED);
+            taskService.updateTask(ignored.getId(), ignored);
+            taskService.updateTask(cancelled.getId(), cancelled);
+            taskService.deleteTask(cancelled.getId());
+
+            try (Stream<String> lines = response.body()) {
+                Iterator<String> iterator = lines.filter(line -> line.startsWith("event:") || line.startsWith("data:"))
+                        .iterator();
+                assertThat(iterator.next(), is("event:UPDATED"));
+                assertThat(iterator.next(), containsString("\"taskId\":" + cancelled.getId()));
+                assertThat(iterator.next(), is("event:DELETED"));
+                assertThat(iterator.next(), containsString("\"taskId\":" + cancelled.getId()));
+            }
+        }
+    }
+
+    @Test
+    void shouldCreateTasksInBatch() throws Exception {
+        List<Task> tasks = List.of(
+                new Task(null, "batch 1", Status.NEW, assignee, null, LocalDate.now(), null, Priority.LOW,
+                        workCategory),
+                new Task(null, "", Status.NEW, null, null, LocalDate.now(), null, Priority.LOW, null),
+                new Task(null, "batch 3", Status.IN_PROGRESS, null, null, LocalDate.now(), null, Priority.HIGH,
+                        null));
+        HttpEntity<List<Task>> entity = new HttpEntity<>(tasks, headers);
+
+        ResponseEntity<TaskBatchResult[]> response = restTemplate.postForEntity("/api/tasks/batch", entity,
+                TaskBatchResult[].class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        TaskBatchResult[] results = response.getBody();
+        assertThat(results.length, is(3));
+        assertThat(results[0].isSuccess(), is(true));
+        assertThat(results[1].isSuccess(), is(false));
+        assertThat(results[1].getError(), is("Task can not be created."));
+        assertThat(results[2].isSuccess(), is(true));
+        Task created = taskService.getTaskById(results[0].getId());
+        assertThat(created.getDescription(), is("batch 1"));
+        assertThat(created.getCreator().getUsername(), is(creator.getUsername()));
+        assertThat(taskService.getTaskById(results[2].getId()).getDescription(), is("batch 3"));
+    }
+
+    @Test
+    void shouldReportTasksWithoutDueDateWithoutAbortingBatch() throws Exception {
+        List<Task> tasks = List.of(
+                new Task(null, "batch 1", Status.NEW, null, null, LocalDate.now(), null, Priority.LOW, null),
+                new Task(null, "no due date", Status.NEW, null, null, null, null, Priority.LOW, null),
+                new Task(null, "x".repeat(256), Status.NEW, null, null, LocalDate.now(), null, Priority.LOW, null),
+                new Task(null, "batch 4", Status.NEW, null, null, LocalDate.now(), null, Priority.LOW, null));
+        HttpEntity<List<Task>> entity = new HttpEntity<>(tasks, headers);
+
+        ResponseEntity<TaskBatchResult[]> response = restTemplate.postForEntity("/api/tasks/batch", entity,
+                TaskBatchResult[].class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        TaskBatchResult[] results = response.getBody();
+        assertThat(results[0].isSuccess(), is(true));
+        assertThat(results[1].isSuccess(), is(false));
+        assertThat(results[1].getError(), is("Task can not be created."));
+        assertThat(results[2].isSuccess(), is(false));
+        assertThat(results[3].isSuccess(), is(true));
+        assertThat(taskService.getTaskById(results[3].getId()).getDescription(), is("batch 4"));
+    }
+
+    @Test
+    void shouldUpdateTasksInBatch() throws Exception {
+        Task first = allTasks.get(0);
+        first.setDescription("batch updated");
+        Task second = allTasks.get(1);
+        second.setDescription("");
+        Task missing = new Task(-1L, "missing", Status.NEW, null, creator, LocalDate.now(), LocalDate.now(),
+                Priority.LOW, null);
+        HttpEntity<List<Task>> entity = new HttpEntity<>(List.of(first, second, missing), headers);
+
+        ResponseEntity<TaskBatchResult[]> response = restTemplate.exchange("/api/tasks/batch", HttpMethod.PUT,
+                entity, TaskBatchResult[].class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        TaskBatchResult[] results = response.getBody();
+        assertThat(results[0].isSuccess(), is(true));
+        assertThat(results[1].getError(), is("Task can not be updated."));
+        assertThat(results[2].getError(), is("Task not found."));
+        assertThat(taskService.getTaskById(first.getId()).getDescription(), is("batch updated"));
+        assertThat(taskService.getTaskById(second.getId()).getDescription(), is("desc1"));
+    }
+
+    @Test
+    void shouldDeleteTasksInBatch() {
+        List<Long> ids = List.of(allTasks.get(0).getId(), -1L, allTasks.get(1).getId());
+        HttpEntity<List<Long>> entity = new HttpEntity<>(ids, headers);
+
+        ResponseEntity<TaskBatchResult[]> response = restTemplate.exchange("/api/tasks/batch", HttpMethod.DELETE,
+                entity, TaskBatchResult[].class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        TaskBatchResult[] results = response.getBody();
+        assertThat(results[0].isSuccess(), is(true));
+        assertThat(results[1].isSuccess(), is(false));
+        assertThat(results[2].isSuccess(), is(true));
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(allTasks.get(0).getId()));
+        assertThat(taskService.getAllTasks(), hasSize(23));
+    }
+
+    @Test
+    void shouldRejectTooLargeBatch() {
+        List<Long> ids = new ArrayList<>();
+        for (long i = 0; i < 1001; i++) {
+            ids.add(i);
+        }
+        HttpEntity<List<Long>> entity = new HttpEntity<>(ids, headers);
+
+        ResponseEntity<String> response = restTemplate.exchange("/api/tasks/batch", HttpMethod.DELETE, entity,
+                String.class);
+
+        assertThat(response.getStatusCode(), is(HttpStatus.PAYLOAD_TOO_LARGE));
+    }
+}
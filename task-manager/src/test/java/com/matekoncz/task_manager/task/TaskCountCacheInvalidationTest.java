@@ -0,0 +1,74 @@
+package com.matekoncz.task_manager.task;
+
+import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.category.CategoryService;
+import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.user.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskCountCacheInvalidationTest extends TaskManagerIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User creator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskService.deleteAll();
+        userService.deleteAll();
+        categoryService.deleteAll();
+        creator = userService.createUser(new User(null, "creator", "password"));
+        for (int i = 0; i < 3; i++) {
+            taskService.createTask(task("desc" + i));
+        }
+    }
+
+    @Test
+    void shouldNotCacheCountReadBeforeCreateCommits() {
+        assertEquals(3, countTasks());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                taskService.createTask(task("uncommitted"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            assertEquals(3, CompletableFuture.supplyAsync(this::countTasks).join());
+        });
+
+        assertEquals(4, countTasks());
+    }
+
+    private long countTasks() {
+        return taskService.listTaskByFilter(new TaskFilter(), 0, 10, "", true, true).getNumberOfResults();
+    }
+
+    private Task task(String description) {
+        return new Task(null, description, Status.NEW, null, creator, LocalDate.of(2025, 10, 1), LocalDate.now(),
+                Priority.LOW, null);
+    }
+}
@@ -0,0 +1,181 @@
+package com.matekoncz.task_manager.task;
+
+import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.model.Category;
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskChangeEvent;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.model.UserDto;
+import com.matekoncz.task_manager.service.category.CategoryService;
+import com.matekoncz.task_manager.service.task.TaskChangeSubscription;
+import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.user.UserService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskFilterConsistencyTest extends TaskManagerIntegrationTest {
+
+    private static final String COMMON_WORD = "common";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    private User alice;
+    private User bob;
+    private Category work;
+    private Category home;
+    private final List<TaskChangeSubscription> subscriptions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskService.deleteAll();
+        userService.deleteAll();
+        categoryService.deleteAll();
+        alice = userService.createUser(new User(null, "alice", "password"));
+        bob = userService.createUser(new User(null, "bob", "password"));
+        work = categoryService.createCategory(new Category("Work"));
+        home = categoryService.createCategory(new Category("Home"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriptions.forEach(taskService::unsubscribeFromChanges);
+        subscriptions.clear();
+        taskService.deleteAll();
+    }
+
+    @Test
+    void shouldApplyFiltersTheSameWayInDatabaseIndexAndChangeFeed() throws Exception {
+        Map<String, TaskFilter> filters = createFilters();
+        Map<String, Queue<TaskChangeEvent>> plainEvents = subscribe(filters, null);
+        Map<String, Queue<TaskChangeEvent>> textEvents = subscribe(filters, COMMON_WORD);
+
+        createTasks();
+
+        for (Map.Entry<String, TaskFilter> entry : filters.entrySet()) {
+            String name = entry.getKey();
+            List<Long> fromDatabase = findTaskIds(withDescription(entry.getValue(), null));
+            List<Long> fromIndex = findTaskIds(withDescription(entry.getValue(), COMMON_WORD));
+            assertEquals(fromDatabase, fromIndex, name);
+            assertEquals(fromDatabase, awaitTaskIds(plainEvents.get(name), fromDatabase.size()), name);
+            assertEquals(fromDatabase, awaitTaskIds(textEvents.get(name), fromDatabase.size()), name);
+        }
+    }
+
+    private Map<String, TaskFilter> createFilters() {
+        Map<String, TaskFilter> filters = new LinkedHashMap<>();
+        filters.put("none", new TaskFilter());
+        filters.put("emptyCategory", filter(filter -> filter.setCategory(new Category())));
+        filters.put("emptyCreator", filter(filter -> filter.setCreator(new UserDto())));
+        filters.put("emptyAssignee", filter(filter -> filter.setAssignee(new UserDto())));
+        filters.put("category", filter(filter -> filter.setCategory(work)));
+        filters.put("categoryIds", filter(filter -> filter.setCategoryIds(List.of(work.getId(), home.getId()))));
+        filters.put("creator", filter(filter -> filter.setCreator(new UserDto(alice.getId(), null))));
+        filters.put("assignee", filter(filter -> filter.setAssignee(new UserDto(bob.getId(), null))));
+        filters.put("unassigned", filter(filter -> filter.setUnassigned(true)));
+        filters.put("status", filter(filter -> filter.setStatus(Status.IN_PROGRESS)));
+        filters.put("statuses", filter(filter -> filter.setStatuses(List.of(Status.NEW, Status.COMPLETED))));
+        filters.put("priority", filter(filter -> filter.setPriority(Priority.HIGH)));
+        filters.put("priorities", filter(filter -> filter.setPriorities(List.of(Priority.LOW, Priority.BASIC))));
+        filters.put("dueDate", filter(filter -> filter.setDueDate(LocalDate.of(2025, 10, 2))));
+        filters.put("dueDateRange", filter(filter -> {
+            filter.setDueDateFrom(LocalDate.of(2025, 10, 2));
+            filter.setDueDateTo(LocalDate.of(2025, 10, 3));
+        }));
+        filters.put("createdAtRange", filter(filter -> filter.setCreatedAtTo(LocalDate.now().minusDays(1))));
+        filters.put("combined", filter(filter -> {
+            filter.setCategory(new Category());
+            filter.setCreator(new UserDto(bob.getId(), null));
+            filter.setStatuses(List.of(Status.NEW, Status.IN_PROGRESS));
+            filter.setDueDateFrom(LocalDate.of(2025, 10, 2));
+        }));
+        return filters;
+    }
+
+    private TaskFilter filter(Consumer<TaskFilter> configuration) {
+        TaskFilter filter = new TaskFilter();
+        configuration.accept(filter);
+        return filter;
+    }
+
+    private Map<String, Queue<TaskChangeEvent>> subscribe(Map<String, TaskFilter> filters, String description) {
+        Map<String, Queue<TaskChangeEvent>> events = new LinkedHashMap<>();
+        for (Map.Entry<String, TaskFilter> entry : filters.entrySet()) {
+            Queue<TaskChangeEvent> received = new ConcurrentLinkedQueue<>();
+            subscriptions.add(taskService.subscribeToChanges(withDescription(entry.getValue(), description),
+                    received::add));
+            events.put(entry.getKey(), received);
+        }
+        return events;
+    }
+
+    private void createTasks() throws Exception {
+        User[] users = { alice, bob };
+        Category[] categories = { work, home, null };
+        for (int i = 0; i < 24; i++) {
+            taskService.createTask(new Task(null, COMMON_WORD + " task " + i,
+                    Status.values()[i % Status.values().length], i % 3 == 0 ? null : users[i % 2], users[(i / 2) % 2],
+                    LocalDate.of(2025, 10, 1 + i % 4), LocalDate.now().minusDays(i % 2),
+                    Priority.values()[i % Priority.values().length], categories[i % 3]));
+        }
+    }
+
+    private TaskFilter withDescription(TaskFilter filter, String description) {
+        TaskFilter copy = new TaskFilter();
+        copy.setStatus(filter.getStatus());
+        copy.setStatuses(filter.getStatuses());
+        copy.setPriority(filter.getPriority());
+        copy.setPriorities(filter.getPriorities());
+        copy.setDueDate(filter.getDueDate());
+        copy.setDueDateFrom(filter.getDueDateFrom());
+        copy.setDueDateTo(filter.getDueDateTo());
+        copy.setCreatedAtFrom(filter.getCreatedAtFrom());
+        copy.setCreatedAtTo(filter.getCreatedAtTo());
+        copy.setAssignee(filter.getAssignee());
+        copy.setUnassigned(filter.isUnassigned());
+        copy.setCreator(filter.getCreator());
+        copy.setCategory(filter.getCategory());
+        copy.setCategoryIds(filter.getCategoryIds());
+        copy.setDescription(description);
+        return copy;
+    }
+
+    private List<Long> findTaskIds(TaskFilter filter) {
+        return taskService.listTaskByFilter(filter, 0, 100, "", true, false).getTasks().stream()
+                .map(Task::getId)
+                .sorted()
+                .toList();
+    }
+
+    private List<Long> awaitTaskIds(Queue<TaskChangeEvent> events, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (events.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return events.stream().map(TaskChangeEvent::getTaskId).sorted().toList();
+    }
+}
@@ -0,0 +1,36 @@
+package com.matekoncz.task_manager.task;
+
+import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskIndexMigrationTest extends TaskManagerIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldApplyVersionedMigrations() {
+        List<String> versions = jdbcTemplate.queryForList("SELECT \"version\" FROM \"flyway_schema_history\" "
+                + "WHERE \"success\" AND \"version\" IS NOT NULL ORDER BY \"installed_rank\"", String.class);
+        assertEquals(List.of("1", "2", "3", "4"), versions);
+    }
+
+    @Test
+    void shouldCreateFilterAndSortIndexes() {
+        List<String> indexNames = jdbcTemplate.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'TASK'", String.class);
+        for (String expected : List.of("idx_task_due_date", "idx_task_status_due_date", "idx_task_status",
+                "idx_task_priority_due_date", "idx_task_priority", "idx_task_assignee_status_due_date",
+                "idx_task_assignee_due_date", "idx_task_creator_due_date", "idx_task_category_due_date")) {
+            assertTrue(indexNames.contains(expected), expected + " missing from " + indexNames);
+        }
+    }
+}
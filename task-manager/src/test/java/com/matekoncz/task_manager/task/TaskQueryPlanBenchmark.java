@@ -0,0 +1,180 @@
+package com.matekoncz.task_manager.task;
+
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.UserDto;
+import com.matekoncz.task_manager.service.task.SearchResult;
+import com.matekoncz.task_manager.service.task.TaskService;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/benchmark/task-manager-benchmark-db",
+        "spring.jpa.properties.hibernate.generate_statistics=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TaskQueryPlanBenchmark {
+
+    private static final int TASK_COUNT = 1_000_000;
+    private static final int USER_COUNT = 100;
+    private static final int CATEGORY_COUNT = 20;
+    private static final String TASK_INDEX_MIGRATION = "db/migration/V1__baseline_schema.sql";
+    private static final int INSERT_CHUNK_SIZE = 50_000;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskService taskService;
+
+    private long firstUserId;
+    private long firstCategoryId;
+
+    @BeforeAll
+    void populate() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task", Long.class) < TASK_COUNT) {
+            insertTasks();
+        }
+        firstUserId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM task_manager_user WHERE username LIKE 'bench-user-%'", Long.class);
+        firstCategoryId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM category WHERE name LIKE 'bench-category-%'", Long.class);
+    }
+
+    private void insertTasks() {
+        jdbcTemplate.update("DELETE FROM task");
+        jdbcTemplate.update("DELETE FROM category WHERE name LIKE 'bench-category-%'");
+        jdbcTemplate.update("DELETE FROM task_manager_user WHERE username LIKE 'bench-user-%'");
+        jdbcTemplate.update("INSERT INTO task_manager_user (username, password) "
+                + "SELECT 'bench-user-' || x, 'x' FROM SYSTEM_RANGE(1, ?)", USER_COUNT);
+        jdbcTemplate.update("INSERT INTO category (name) SELECT 'bench-category-' || x FROM SYSTEM_RANGE(1, ?)",
+                CATEGORY_COUNT);
+        long userId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM task_manager_user WHERE username LIKE 'bench-user-%'", Long.class);
+        long categoryId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM category WHERE name LIKE 'bench-category-%'", Long.class);
+
+        List<String> indexNames = jdbcTemplate.queryForList("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES "
+                + "WHERE TABLE_NAME = 'TASK' AND INDEX_NAME LIKE 'IDX_TASK_%'", String.class);
+        for (String indexName : indexNames) {
+            jdbcTemplate.execute("DROP INDEX " + indexName);
+        }
+
+        long started = System.nanoTime();
+        for (int from = 1; from <= TASK_COUNT; from += INSERT_CHUNK_SIZE) {
+            jdbcTemplate.update("INSERT INTO task (id, created_at, description, due_date, priority, status, "
+                    + "assignee_id, category_id, creator_id) "
+                    + "SELECT x, DATE '2025-01-01', 'benchmark task ' || x, "
+                    + "DATEADD(DAY, MOD(x, 730), DATE '2025-01-01'), MOD(x / 7, 4), MOD(x / 3, 4), "
+                    + "? + MOD(x, ?), ? + MOD(x / 13, ?), ? + MOD(x / 17, ?) FROM SYSTEM_RANGE(?, ?)",
+                    userId, USER_COUNT, categoryId, CATEGORY_COUNT, userId, USER_COUNT,
+                    from, Math.min(from + INSERT_CHUNK_SIZE - 1, TASK_COUNT));
+        }
+        System.out.printf("Inserted %d tasks in %d ms%n", TASK_COUNT, (System.nanoTime() - started) / 1_000_000);
+
+        started = System.nanoTime();
+        new ResourceDatabasePopulator(new ClassPathResource(TASK_INDEX_MIGRATION)).execute(dataSource);
+        jdbcTemplate.execute("ANALYZE");
+        System.out.printf("Built task indexes in %d ms%n", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Test
+    void shouldUseIndexForAssigneeAndStatusSortedByDueDate() {
+        assertPlanUses("idx_task_assignee_status_due_date", "SELECT id FROM task WHERE assignee_id = "
+                + firstUserId + " AND status = 1 ORDER BY due_date, id LIMIT 11");
+
+        TaskFilter filter = new TaskFilter();
+        filter.setAssignee(user(firstUserId));
+        filter.setStatus(Status.values()[1]);
+        measure("assignee + status, offset slice", () -> taskService.listTaskByFilter(filter, 0, PAGE_SIZE,
+                "dueDate", true, false));
+        measure("assignee + status, keyset page", () -> listAfter(filter, "dueDate"));
+    }
+
+    @Test
+    void shouldUseIndexForCreatorSortedByDueDate() {
+        assertPlanUses("idx_task_creator_due_date", "SELECT id FROM task WHERE creator_id = "
+                + firstUserId + " ORDER BY due_date, id LIMIT 11");
+
+        TaskFilter filter = new TaskFilter();
+        filter.setCreator(user(firstUserId));
+        measure("creator, keyset page", () -> listAfter(filter, "dueDate"));
+    }
+
+    @Test
+    void shouldUseIndexForCategorySortedByDueDate() {
+        assertPlanUses("idx_task_category_due_date", "SELECT id FROM task WHERE category_id = "
+                + firstCategoryId + " ORDER BY due_date, id LIMIT 11");
+    }
+
+    @Test
+    void shouldUseIndexForStatusSortedByDueDate() {
+        assertPlanUses("idx_task_status_due_date",
+                "SELECT id FROM task WHERE status = 2 ORDER BY due_date, id LIMIT 11");
+    }
+
+    @Test
+    void shouldUseIndexForUnfilteredSortByDueDate() {
+        assertPlanUses("idx_task_due_date", "SELECT id FROM task ORDER BY due_date, id LIMIT 11");
+
+        measure("unfiltered, keyset page", () -> listAfter(new TaskFilter(), "dueDate"));
+    }
+
+    @Test
+    void shouldUseIndexForUnfilteredSortByPriority() {
+        assertPlanUses("idx_task_priority", "SELECT id FROM task ORDER BY priority DESC, id DESC LIMIT 11");
+    }
+
+    private SearchResult listAfter(TaskFilter filter, String orderBy) {
+        try {
+            return taskService.listTaskByFilterAfter(filter, "", PAGE_SIZE, orderBy, true);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void assertPlanUses(String indexName, String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        System.out.println(plan);
+        assertTrue(plan.toUpperCase().contains(indexName.toUpperCase()), plan);
+    }
+
+    private void measure(String label, Supplier<SearchResult> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+        int iterations = 50;
+        long started = System.nanoTime();
+        SearchResult result = null;
+        for (int i = 0; i < iterations; i++) {
+            result = query.get();
+        }
+        long averageMicros = (System.nanoTime() - started) / iterations / 1_000;
+        assertEquals(PAGE_SIZE, result.getTasks().size());
+        System.out.printf("%s: %d us per query over %d tasks%n", label, averageMicros, TASK_COUNT);
+    }
+
+    private UserDto user(long id) {
+        return new UserDto(id, null);
+    }
+}
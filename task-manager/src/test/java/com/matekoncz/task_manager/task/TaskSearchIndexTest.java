@@ -0,0 +1,167 @@
+package com.matekoncz.task_manager.task;
+
+import com.matekoncz.task_manager.model.Category;
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.TaskGroupCount;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.model.UserDto;
+import com.matekoncz.task_manager.service.task.TaskCursor;
+import com.matekoncz.task_manager.service.task.TaskSearchHits;
+import com.matekoncz.task_manager.service.task.TaskSearchIndex;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskSearchIndexTest {
+
+    private TaskSearchIndex searchIndex;
+    private User creator;
+    private User assignee;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        searchIndex = new TaskSearchIndex();
+        creator = new User(1L, "creator", "password");
+        assignee = new User(2L, "assignee", "password");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        searchIndex.destroy();
+    }
+
+    @Test
+    void shouldRankBetterMatchesFirst() {
+        searchIndex.index(List.of(
+                task(1L, "write quarterly report draft and review other notes", Status.NEW, null),
+                task(2L, "report report report", Status.NEW, null),
+                task(3L, "buy groceries", Status.NEW, null)));
+
+        TaskSearchHits hits = search("report", new TaskFilter());
+
+        assertEquals(List.of(2L, 1L), hits.getIds());
+        assertEquals(2, hits.getTotalHits());
+    }
+
+    @Test
+    void shouldMatchCaseInsensitivelyAndByPrefix() {
+        searchIndex.index(List.of(task(1L, "Deploy the Release", Status.NEW, null)));
+
+        assertEquals(List.of(1L), search("RELEASE", new TaskFilter()).getIds());
+        assertEquals(List.of(1L), search("depl", new TaskFilter()).getIds());
+    }
+
+    @Test
+    void shouldCombineTextWithFilters() {
+        searchIndex.index(List.of(
+                task(1L, "fix login bug", Status.NEW, assignee),
+                task(2L, "fix logout bug", Status.COMPLETED, assignee),
+                task(3L, "fix signup bug", Status.NEW, null)));
+
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(Status.NEW);
+        filter.setAssignee(new UserDto(assignee.getId(), assignee.getUsername()));
+
+        assertEquals(List.of(1L), search("bug", filter).getIds());
+    }
+
+    @Test
+    void shouldCombineTextWithMultiValueAndRangeFilters() {
+        searchIndex.index(List.of(
+                task(1L, "fix login bug", Status.NEW, assignee),
+                task(2L, "fix logout bug", Status.IN_PROGRESS, null),
+                task(3L, "fix signup bug", Status.COMPLETED, null),
+                task(4L, "fix search bug", Status.NEW, null)));
+
+        TaskFilter filter = new TaskFilter();
+        filter.setStatuses(List.of(Status.NEW, Status.IN_PROGRESS));
+        filter.setDueDateFrom(LocalDate.of(2025, 1, 2));
+        filter.setUnassigned(true);
+
+        assertEquals(List.of(2L, 4L), searchIndex.search("bug", filter, 0, 10, "dueDate", true, true).getIds());
+    }
+
+    @Test
+    void shouldReflectUpdatesAndDeletes() {
+        searchIndex.index(List.of(task(1L, "old title", Status.NEW, null), task(2L, "old news", Status.NEW, null)));
+        searchIndex.index(List.of(task(1L, "new title", Status.NEW, null)));
+        searchIndex.remove(List.of(2L));
+
+        assertTrue(search("old", new TaskFilter()).getIds().isEmpty());
+        assertEquals(List.of(1L), search("title", new TaskFilter()).getIds());
+        assertEquals(1, searchIndex.count("title", new TaskFilter()));
+    }
+
+    @Test
+    void shouldPageThroughHits() {
+        for (long id = 1; id <= 5; id++) {
+            searchIndex.index(List.of(task(id, "task " + id, Status.NEW, null)));
+        }
+
+        TaskSearchHits firstPage = searchIndex.search("task", new TaskFilter(), 0, 2, "dueDate", true, true);
+        TaskSearchHits lastPage = searchIndex.search("task", new TaskFilter(), 4, 2, "dueDate", true, true);
+
+        assertEquals(List.of(1L, 2L), firstPage.getIds());
+        assertTrue(firstPage.isHasNext());
+        assertEquals(List.of(5L), lastPage.getIds());
+        assertFalse(lastPage.isHasNext());
+        assertEquals(5, lastPage.getTotalHits());
+    }
+
+    @Test
+    void shouldPageAfterCursorInSortOrder() {
+        for (long id = 1; id <= 5; id++) {
+            searchIndex.index(List.of(task(id, "task " + id, Status.NEW, null)));
+        }
+
+        TaskSearchHits firstPage = searchIndex.searchAfter("task", new TaskFilter(), null, 2, "dueDate", false);
+        TaskSearchHits secondPage = searchIndex.searchAfter("task", new TaskFilter(),
+                TaskCursor.of(task(4L, "task 4", Status.NEW, null), "dueDate"), 2, "dueDate", false);
+        TaskSearchHits lastPage = searchIndex.searchAfter("task", new TaskFilter(), TaskCursor.after(4L), 2, "",
+                true);
+
+        assertEquals(List.of(5L, 4L), firstPage.getIds());
+        assertTrue(firstPage.isHasNext());
+        assertEquals(List.of(3L, 2L), secondPage.getIds());
+        assertTrue(secondPage.isHasNext());
+        assertEquals(List.of(5L), lastPage.getIds());
+        assertFalse(lastPage.isHasNext());
+    }
+
+    @Test
+    void shouldCountGroupsOfMatchingTasks() {
+        searchIndex.index(List.of(
+                task(1L, "fix login bug", Status.NEW, null),
+                task(2L, "fix export bug", Status.NEW, assignee),
+                task(3L, "fix search bug", Status.COMPLETED, null),
+                task(4L, "write docs", Status.NEW, null)));
+
+        List<TaskGroupCount> groups = searchIndex.countGroups("bug", new TaskFilter());
+
+        assertEquals(3, groups.stream().mapToLong(TaskGroupCount::getCount).sum());
+        assertEquals(2, groups.stream().filter(group -> group.getStatus() == Status.NEW)
+                .mapToLong(TaskGroupCount::getCount).sum());
+        assertTrue(groups.stream().allMatch(group -> group.getPriority() == Priority.BASIC
+                && group.getCategoryId() == 1L));
+    }
+
+    private TaskSearchHits search(String text, TaskFilter filter) {
+        return searchIndex.search(text, filter, 0, 10, "", true, true);
+    }
+
+    private Task task(Long id, String description, Status status, User assignee) {
+        Category category = new Category("Default");
+        category.setId(1L);
+        return new Task(id, description, status, assignee, creator, LocalDate.of(2025, 1, id.intValue()),
+                LocalDate.of(2025, 1, 1), Priority.BASIC, category);
+    }
+}
@@ -3,25 +3,42 @@ package com.matekoncz.task_manager.task;
 import com.matekoncz.task_manager.model.Category;
 import com.matekoncz.task_manager.service.category.CategoryService;
 import com.matekoncz.task_manager.exceptions.category.CategoryNotFoundException;
+import com.matekoncz.task_manager.exceptions.task.TaskBatchIsTooLargeException;
 import com.matekoncz.task_manager.exceptions.task.TaskCanNotBeCreatedException;
 import com.matekoncz.task_manager.exceptions.task.TaskCanNotBeUpdatedException;
+import com.matekoncz.task_manager.exceptions.task.TaskCursorIsInvalidException;
 import com.matekoncz.task_manager.exceptions.task.TaskNotFoundException;
+import com.matekoncz.task_manager.exceptions.task.TaskVersionConflictException;
 import com.matekoncz.task_manager.exceptions.user.UserNotFoundException;
 import com.matekoncz.task_manager.model.Priority;
 import com.matekoncz.task_manager.model.Status;
 import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.TaskSummary;
 import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.model.UserDto;
 import com.matekoncz.task_manager.repository.TaskRepository;
 import com.matekoncz.task_manager.service.task.SearchResult;
+import com.matekoncz.task_manager.service.task.TaskBatchResult;
+import com.matekoncz.task_manager.service.task.TaskCursor;
+import com.matekoncz.task_manager.service.task.TaskSearchHits;
+import com.matekoncz.task_manager.service.task.TaskBoardCounters;
+import com.matekoncz.task_manager.service.task.TaskChangeFeed;
+import com.matekoncz.task_manager.service.task.TaskSearchIndex;
+import com.matekoncz.task_manager.service.task.TaskActivityLog;
 import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.task.TaskSummarySearchResult;
 import com.matekoncz.task_manager.service.user.UserService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
@@ -45,6 +62,21 @@ public class TaskServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskBoardCounters boardCounters;
+
+    @Mock
+    private TaskChangeFeed changeFeed;
+
+    @Mock
+    private TaskActivityLog activityLog;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private TaskService taskService;
 
@@ -82,7 +114,8 @@ public class TaskServiceTest {
         category.setId(99L);
         Task task = new Task(null, "desc", Status.NEW, null, assignee, LocalDate.now(), LocalDate.now(), Priority.BASIC,
                 category);
-        when(categoryService.getCategoryById(99L)).thenReturn(null);
+        when(userService.getExistingUserIds(Set.of(2L))).thenReturn(Set.of(2L));
+        when(categoryService.getExistingCategoryIds(Set.of(99L))).thenReturn(Set.of());
         assertThrows(TaskCanNotBeCreatedException.class, () -> taskService.createTask(task));
     }
 
@@ -92,8 +125,12 @@ public class TaskServiceTest {
         category.setId(1L);
         Task task = new Task(null, "desc", Status.NEW, null, assignee, LocalDate.now(), LocalDate.now(), Priority.BASIC,
                 category);
-        when(categoryService.getCategoryById(1L)).thenReturn(category);
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(userService.getExistingUserIds(Set.of(2L))).thenReturn(Set.of(2L));
+        when(categoryService.getExistingCategoryIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            task.setId(1L);
+            return task;
+        });
         Task result = taskService.createTask(task);
         assertNotNull(result);
         assertEquals("desc", result.getDescription());
@@ -107,7 +144,8 @@ public class TaskServiceTest {
                 Priority.BASIC, defaultCategory);
 
         when(taskRepository.save(ArgumentMatchers.any(Task.class))).thenReturn(savedTask);
-        when(categoryService.getCategoryById(1L)).thenReturn(defaultCategory);
+        when(userService.getExistingUserIds(Set.of(2L))).thenReturn(Set.of(2L));
+        when(categoryService.getExistingCategoryIds(Set.of(1L))).thenReturn(Set.of(1L));
 
         Task result = taskService.createTask(task);
 
@@ -134,7 +172,18 @@ public class TaskServiceTest {
     }
 
     @Test
-    void shouldUpdateTask() throws TaskNotFoundException, UserNotFoundException, TaskCanNotBeUpdatedException, CategoryNotFoundException {
+    void shouldThrowExceptionIfAssigneeDoesNotExist() {
+        User unknown = new User(99L, "unknown", "password");
+        Task task = new Task(null, "desc", Status.NEW, unknown, creator, LocalDate.now(), LocalDate.now(),
+                Priority.BASIC, null);
+        when(userService.getExistingUserIds(Set.of(1L, 99L))).thenReturn(Set.of(1L));
+        assertThrows(TaskCanNotBeCreatedException.class, () -> taskService.createTask(task));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void shouldUpdateTask() throws TaskNotFoundException, UserNotFoundException, TaskCanNotBeUpdatedException,
+            CategoryNotFoundException, TaskVersionConflictException {
         Task existingTask = new Task(1L, "desc", Status.NEW, assignee, creator, LocalDate.now(), LocalDate.now(),
                 Priority.BASIC, defaultCategory);
         Task updatedTask = new Task(1L, "new desc", Status.NEW, assignee, creator, LocalDate.now(), LocalDate.now(),
@@ -142,7 +191,8 @@ public class TaskServiceTest {
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
         when(taskRepository.save(existingTask)).thenReturn(updatedTask);
-        when(categoryService.getCategoryById(1L)).thenReturn(defaultCategory);
+        when(userService.getExistingUserIds(Set.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(categoryService.getExistingCategoryIds(Set.of(1L))).thenReturn(Set.of(1L));
 
         Task result = taskService.updateTask(1L, updatedTask);
 
@@ -150,6 +200,21 @@ public class TaskServiceTest {
         assertEquals("new desc", result.getDescription());
     }
 
+    @Test
+    void shouldRejectUpdateWithStaleVersion() {
+        Task existingTask = new Task(1L, "desc", Status.NEW, assignee, creator, LocalDate.now(), LocalDate.now(),
+                Priority.BASIC, defaultCategory);
+        existingTask.setVersion(2L);
+        Task updatedTask = new Task(1L, "new desc", Status.NEW, assignee, creator, LocalDate.now(), LocalDate.now(),
+                Priority.BASIC, defaultCategory);
+        updatedTask.setVersion(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(existingTask));
+
+        assertThrows(TaskVersionConflictException.class, () -> taskService.updateTask(1L, updatedTask));
+        assertEquals("desc", existingTask.getDescription());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
     @Test
     void shouldThrowTaskNotFoundExceptionWhenUpdatingNonexistentTask() {
         Task updatedTask = new Task(1L, "desc", null, null, assignee, LocalDate.now(), LocalDate.now(), Priority.BASIC,
@@ -178,7 +243,7 @@ public class TaskServiceTest {
     @SuppressWarnings("unchecked")
     @Test
     void shouldFilterByStatus() {
-        Task filter = new Task();
+        TaskFilter filter = new TaskFilter();
         filter.setStatus(Status.NEW);
 
         List<Task> filtered = allTasks.stream()
@@ -190,13 +255,15 @@ public class TaskServiceTest {
 
         SearchResult result = taskService.listTaskByFilter(filter, 0, "", true);
         assertTrue(result.getTasks().stream().allMatch(t -> t.getStatus() == Status.NEW));
+        assertEquals(1, meterRegistry.get("task-manager.tasks.list").tag("filter", "status").tag("total", "true")
+                .timer().count());
     }
 
     @SuppressWarnings("unchecked")
     @Test
     void shouldFilterByDueDate() {
         LocalDate dueDate = LocalDate.of(2025, 10, 5);
-        Task filter = new Task();
+        TaskFilter filter = new TaskFilter();
         filter.setDueDate(dueDate);
 
         List<Task> filtered = allTasks.stream()
@@ -213,8 +280,8 @@ public class TaskServiceTest {
     @SuppressWarnings("unchecked")
     @Test
     void shouldFilterByAssignee() {
-        Task filter = new Task();
-        filter.setAssignee(assignee);
+        TaskFilter filter = new TaskFilter();
+        filter.setAssignee(toUserDto(assignee));
 
         List<Task> filtered = allTasks.stream()
                 .filter(t -> assignee.equals(t.getAssignee()))
@@ -230,8 +297,8 @@ public class TaskServiceTest {
     @SuppressWarnings("unchecked")
     @Test
     void shouldFilterByCreator() {
-        Task filter = new Task();
-        filter.setCreator(creator);
+        TaskFilter filter = new TaskFilter();
+        filter.setCreator(toUserDto(creator));
 
         List<Task> filtered = allTasks.stream()
                 .filter(t -> creator.equals(t.getCreator()))
@@ -247,7 +314,7 @@ public class TaskServiceTest {
     @SuppressWarnings("unchecked")
     @Test
     void shouldFilterByCategory() {
-        Task filter = new Task();
+        TaskFilter filter = new TaskFilter();
         filter.setCategory(defaultCategory);
 
         List<Task> filtered = allTasks.stream()
@@ -264,29 +331,34 @@ public class TaskServiceTest {
     @SuppressWarnings("unchecked")
     @Test
     void shouldFilterByDescription() {
-        Task filter = new Task();
+        TaskFilter filter = new TaskFilter();
         filter.setDescription("desc1");
 
         List<Task> filtered = allTasks.stream()
                 .filter(t -> t.getDescription().toLowerCase().contains("desc1"))
                 .collect(Collectors.toList());
+        List<Long> rankedIds = filtered.stream().map(Task::getId).sorted(Comparator.reverseOrder()).toList();
 
-        when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(filtered));
+        when(taskSearchIndex.isSearchable("desc1")).thenReturn(true);
+        when(taskSearchIndex.search("desc1", filter, 0, 10, "", true, true))
+                .thenReturn(new TaskSearchHits(rankedIds, rankedIds.size(), false));
+        when(taskRepository.findBy(any(Specification.class), any())).thenReturn(filtered);
 
         SearchResult result = taskService.listTaskByFilter(filter, 0, "", true);
-        assertTrue(result.getTasks().stream().allMatch(t -> t.getDescription().toLowerCase().contains("desc1")));
+        assertEquals(rankedIds, result.getTasks().stream().map(Task::getId).toList());
+        assertEquals(rankedIds.size(), result.getNumberOfResults());
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Pageable.class));
     }
 
     @SuppressWarnings("unchecked")
     @Test
     void shouldFilterByAllFieldsCombined() {
         LocalDate dueDate = LocalDate.of(2025, 10, 5);
-        Task filter = new Task();
+        TaskFilter filter = new TaskFilter();
         filter.setStatus(Status.NEW);
         filter.setDueDate(dueDate);
-        filter.setAssignee(assignee);
-        filter.setCreator(creator);
+        filter.setAssignee(toUserDto(assignee));
+        filter.setCreator(toUserDto(creator));
         filter.setDescription("desc");
 
         List<Task> filtered = allTasks.stream()
@@ -297,8 +369,12 @@ public class TaskServiceTest {
                 .filter(t -> t.getDescription().toLowerCase().contains("desc"))
                 .collect(Collectors.toList());
 
-        when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(filtered));
+        List<Long> ids = filtered.stream().map(Task::getId).toList();
+
+        when(taskSearchIndex.isSearchable("desc")).thenReturn(true);
+        when(taskSearchIndex.search("desc", filter, 0, 10, "", true, true))
+                .thenReturn(new TaskSearchHits(ids, ids.size(), false));
+        when(taskRepository.findBy(any(Specification.class), any())).thenReturn(filtered);
 
         SearchResult result = taskService.listTaskByFilter(filter, 0, "", true);
         assertEquals(filtered.size(), result.getTasks().size());
@@ -314,7 +390,7 @@ public class TaskServiceTest {
         when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(sorted));
 
-        SearchResult result = taskService.listTaskByFilter(new Task(), 0, "due_date", true);
+        SearchResult result = taskService.listTaskByFilter(new TaskFilter(), 0, "due_date", true);
         assertEquals(sorted.get(0).getDueDate(), result.getTasks().get(0).getDueDate());
     }
 
@@ -328,7 +404,7 @@ public class TaskServiceTest {
         when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(sorted));
 
-        SearchResult result = taskService.listTaskByFilter(new Task(), 0, "due_date", false);
+        SearchResult result = taskService.listTaskByFilter(new TaskFilter(), 0, "due_date", false);
         assertEquals(sorted.get(0).getDueDate(), result.getTasks().get(0).getDueDate());
     }
 
@@ -342,7 +418,7 @@ public class TaskServiceTest {
         when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(sorted));
 
-        SearchResult result = taskService.listTaskByFilter(new Task(), 0, "status", true);
+        SearchResult result = taskService.listTaskByFilter(new TaskFilter(), 0, "status", true);
         assertEquals(sorted.get(0).getStatus(), result.getTasks().get(0).getStatus());
     }
 
@@ -356,7 +432,7 @@ public class TaskServiceTest {
         when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(sorted));
 
-        SearchResult result = taskService.listTaskByFilter(new Task(), 0, "status", false);
+        SearchResult result = taskService.listTaskByFilter(new TaskFilter(), 0, "status", false);
         assertEquals(sorted.get(0).getStatus(), result.getTasks().get(0).getStatus());
     }
 
@@ -364,11 +440,11 @@ public class TaskServiceTest {
     @Test
     void shouldSortAndFilterCombined() {
         LocalDate dueDate = LocalDate.of(2025, 10, 5);
-        Task filter = new Task();
+        TaskFilter filter = new TaskFilter();
         filter.setStatus(Status.NEW);
         filter.setDueDate(dueDate);
-        filter.setAssignee(assignee);
-        filter.setCreator(creator);
+        filter.setAssignee(toUserDto(assignee));
+        filter.setCreator(toUserDto(creator));
         filter.setDescription("desc");
 
         List<Task> filteredSorted = allTasks.stream()
@@ -398,7 +474,7 @@ public class TaskServiceTest {
         when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(tenTasks, PageRequest.of(0, 10), allTasks.size()));
 
-        SearchResult result = taskService.listTaskByFilter(new Task(), 0, "", true);
+        SearchResult result = taskService.listTaskByFilter(new TaskFilter(), 0, "", true);
         assertEquals(10, result.getTasks().size());
         assertEquals(allTasks.size(), result.getNumberOfResults());
     }
@@ -406,7 +482,7 @@ public class TaskServiceTest {
     @SuppressWarnings("unchecked")
     @Test
     void shouldFilterByPriority() {
-        Task filter = new Task();
+        TaskFilter filter = new TaskFilter();
         filter.setPriority(Priority.HIGH);
 
         List<Task> filtered = allTasks.stream()
@@ -430,7 +506,7 @@ public class TaskServiceTest {
         when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(sorted));
 
-        SearchResult result = taskService.listTaskByFilter(new Task(), 0, "priority", true);
+        SearchResult result = taskService.listTaskByFilter(new TaskFilter(), 0, "priority", true);
         assertEquals(sorted.get(0).getPriority(), result.getTasks().get(0).getPriority());
     }
 
@@ -444,7 +520,245 @@ public class TaskServiceTest {
         when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(sorted));
 
-        SearchResult result = taskService.listTaskByFilter(new Task(), 0, "priority", false);
+        SearchResult result = taskService.listTaskByFilter(new TaskFilter(), 0, "priority", false);
         assertEquals(sorted.get(0).getPriority(), result.getTasks().get(0).getPriority());
     }
-}
\ No newline at end of file
+
+    // --- Keyset pagination tests ---
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldReturnNextCursorWhenMoreTasksFollow() throws TaskCursorIsInvalidException {
+        when(taskRepository.findBy(any(Specification.class), any())).thenReturn(allTasks.subList(0, 11));
+
+        SearchResult result = taskService.listTaskByFilterAfter(new TaskFilter(), "", 10, "dueDate", true);
+
+        assertEquals(10, result.getTasks().size());
+        assertEquals(TaskCursor.of(allTasks.get(9), "dueDate").encode(), result.getNextCursor());
+        assertEquals(SearchResult.UNKNOWN_NUMBER_OF_RESULTS, result.getNumberOfResults());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldNotReturnNextCursorOnLastPage() throws TaskCursorIsInvalidException {
+        when(taskRepository.findBy(any(Specification.class), any())).thenReturn(allTasks.subList(20, 25));
+
+        String cursor = TaskCursor.of(allTasks.get(19), "").encode();
+        SearchResult result = taskService.listTaskByFilterAfter(new TaskFilter(), cursor, 10, "", true);
+
+        assertEquals(5, result.getTasks().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThrows(TaskCursorIsInvalidException.class,
+                () -> taskService.listTaskByFilterAfter(new TaskFilter(), "not a cursor", 10, "dueDate", true));
+    }
+
+    @Test
+    void shouldRejectCursorFromDifferentOrdering() {
+        String cursor = TaskCursor.of(allTasks.get(0), "status").encode();
+        assertThrows(TaskCursorIsInvalidException.class,
+                () -> taskService.listTaskByFilterAfter(new TaskFilter(), cursor, 10, "priority", true));
+    }
+
+    @Test
+    void shouldDecodeEncodedCursor() throws TaskCursorIsInvalidException {
+        Task task = allTasks.get(7);
+        TaskCursor cursor = TaskCursor.decode(TaskCursor.of(task, "priority").encode(), "priority");
+
+        assertEquals(task.getPriority(), cursor.getSortKey());
+        assertEquals(task.getId(), cursor.getId());
+    }
+
+    // --- Count query tests ---
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldSkipCountQueryWhenTotalIsNotRequested() {
+        when(taskRepository.findBy(any(Specification.class), any()))
+                .thenReturn(new SliceImpl<>(allTasks.subList(0, 10), PageRequest.of(0, 10), true));
+
+        SearchResult result = taskService.listTaskByFilter(new TaskFilter(), 0, 10, "", true, false);
+
+        assertEquals(10, result.getTasks().size());
+        assertTrue(result.isHasNext());
+        assertEquals(SearchResult.UNKNOWN_NUMBER_OF_RESULTS, result.getNumberOfResults());
+        verify(taskRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldServeTotalFromCacheOnRepeatedSearch() {
+        when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(allTasks.subList(0, 10), PageRequest.of(0, 10), allTasks.size()));
+        when(taskRepository.findBy(any(Specification.class), any()))
+                .thenReturn(new SliceImpl<>(allTasks.subList(10, 20), PageRequest.of(1, 10), true));
+
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(Status.NEW);
+        taskService.listTaskByFilter(filter, 0, "", true);
+        SearchResult result = taskService.listTaskByFilter(filter, 10, "", true);
+
+        assertEquals(allTasks.size(), result.getNumberOfResults());
+        assertEquals(allTasks.get(10).getId(), result.getTasks().get(0).getId());
+        verify(taskRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldInvalidateCachedTotalOnTaskWrite() {
+        when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(allTasks.subList(0, 10), PageRequest.of(0, 10), allTasks.size()));
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        taskService.listTaskByFilter(new TaskFilter(), 0, "", true);
+        assertDoesNotThrow(() -> taskService.deleteTask(1L));
+        taskService.listTaskByFilter(new TaskFilter(), 0, "", true);
+
+        verify(taskRepository, times(2)).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    // --- Page size and projection tests ---
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldUseRequestedPageSize() {
+        when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(allTasks.subList(0, 5)));
+
+        taskService.listTaskByFilter(new TaskFilter(), 10, 5, "", true, true);
+
+        verify(taskRepository).findAll(any(Specification.class), eq(PageRequest.of(2, 5, Sort.by("id"))));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldBoundRequestedPageSize() {
+        when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(allTasks));
+
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(Status.NEW);
+        taskService.listTaskByFilter(new TaskFilter(), 0, 5000, "", true, true);
+        taskService.listTaskByFilter(filter, 0, 0, "", true, true);
+
+        verify(taskRepository).findAll(any(Specification.class), eq(PageRequest.of(0, 100, Sort.by("id"))));
+        verify(taskRepository).findAll(any(Specification.class), eq(PageRequest.of(0, 1, Sort.by("id"))));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldListTaskSummaries() {
+        List<TaskSummary> summaries = allTasks.subList(0, 3).stream()
+                .map(t -> new TaskSummary(t.getId(), t.getDescription(), t.getStatus(), t.getPriority(),
+                        t.getDueDate(), null, defaultCategory.getId()))
+                .collect(Collectors.toList());
+        when(taskRepository.findSummaries(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(summaries, PageRequest.of(0, 3), true));
+        when(taskRepository.count(any(Specification.class))).thenReturn(25L);
+
+        TaskSummarySearchResult result = taskService.listTaskSummariesByFilter(new TaskFilter(), 0, 3, "", true, true);
+
+        assertEquals(3, result.getTasks().size());
+        assertEquals(25L, result.getNumberOfResults());
+        assertTrue(result.isHasNext());
+    }
+
+    // --- Batch tests ---
+
+    @Test
+    void shouldReportInvalidTasksWithoutAbortingBatch() throws Exception {
+        Task valid = new Task(null, "desc", Status.NEW, null, creator, LocalDate.now(), LocalDate.now(),
+                Priority.BASIC, null);
+        Task invalid = new Task(null, " ", Status.NEW, null, creator, LocalDate.now(), LocalDate.now(),
+                Priority.BASIC, null);
+        when(userService.getExistingUserIds(Set.of(1L))).thenReturn(Set.of(1L));
+
+        List<TaskBatchResult> results = taskService.createTasks(List.of(invalid, valid));
+
+        assertFalse(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        verify(taskRepository).saveAll(List.of(valid));
+    }
+
+    @Test
+    void shouldReportTasksViolatingColumnConstraintsWithoutAbortingBatch() throws Exception {
+        Task valid = new Task(null, "desc", Status.NEW, null, creator, LocalDate.now(), LocalDate.now(),
+                Priority.BASIC, null);
+        Task withoutDueDate = new Task(null, "desc", Status.NEW, null, creator, null, LocalDate.now(),
+                Priority.BASIC, null);
+        Task tooLong = new Task(null, "x".repeat(256), Status.NEW, null, creator, LocalDate.now(), LocalDate.now(),
+                Priority.BASIC, null);
+        when(userService.getExistingUserIds(Set.of(1L))).thenReturn(Set.of(1L));
+
+        List<TaskBatchResult> results = taskService.createTasks(List.of(withoutDueDate, valid, tooLong));
+
+        assertFalse(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertFalse(results.get(2).isSuccess());
+        verify(taskRepository).saveAll(List.of(valid));
+    }
+
+    @Test
+    void shouldResolveReferencesOncePerBatch() throws Exception {
+        List<Task> tasks = List.of(
+                new Task(null, "a", Status.NEW, assignee, creator, LocalDate.now(), LocalDate.now(), Priority.BASIC,
+                        defaultCategory),
+                new Task(null, "b", Status.NEW, null, creator, LocalDate.now(), LocalDate.now(), Priority.BASIC,
+                        defaultCategory),
+                new Task(null, "c", Status.NEW, assignee, assignee, LocalDate.now(), LocalDate.now(), Priority.BASIC,
+                        null));
+        when(userService.getExistingUserIds(Set.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(categoryService.getExistingCategoryIds(Set.of(1L))).thenReturn(Set.of(1L));
+
+        List<TaskBatchResult> results = taskService.createTasks(tasks);
+
+        assertTrue(results.stream().allMatch(TaskBatchResult::isSuccess));
+        verify(userService, times(1)).getExistingUserIds(any());
+        verify(categoryService, times(1)).getExistingCategoryIds(any());
+        verifyNoMoreInteractions(userService, categoryService);
+    }
+
+    @Test
+    void shouldKeepSearchIndexInSyncWithWrites() throws Exception {
+        Task task = new Task(null, "desc", Status.NEW, null, creator, LocalDate.now(), LocalDate.now(),
+                Priority.BASIC, null);
+        Task saved = new Task(7L, "desc", Status.NEW, null, creator, LocalDate.now(), LocalDate.now(),
+                Priority.BASIC, null);
+        when(userService.getExistingUserIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(taskRepository.save(task)).thenReturn(saved);
+        when(taskRepository.existsById(7L)).thenReturn(true);
+
+        taskService.createTask(task);
+        taskService.deleteTask(7L);
+
+        verify(taskSearchIndex).index(List.of(saved));
+        verify(taskSearchIndex).remove(List.of(7L));
+    }
+
+    @Test
+    void shouldReportMissingTasksWhenDeletingBatch() throws Exception {
+        when(taskRepository.findExistingIds(List.of(1L, 2L))).thenReturn(List.of(2L));
+
+        List<TaskBatchResult> results = taskService.deleteTasks(List.of(1L, 2L));
+
+        assertEquals("Task not found.", results.get(0).getError());
+        assertTrue(results.get(1).isSuccess());
+        verify(taskRepository).deleteAllByIdInBatch(Set.of(2L));
+    }
+
+    @Test
+    void shouldRejectTooLargeBatch() {
+        List<Long> ids = new ArrayList<>();
+        for (long i = 0; i < 1001; i++) {
+            ids.add(i);
+        }
+        assertThrows(TaskBatchIsTooLargeException.class, () -> taskService.deleteTasks(ids));
+    }
+
+    private UserDto toUserDto(User user) {
+        return new UserDto(user.getId(), user.getUsername());
+    }
+}
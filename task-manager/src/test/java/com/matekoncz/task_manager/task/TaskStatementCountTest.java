@@ -0,0 +1,237 @@
+package com.matekoncz.task_manager.task;
+
+import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.model.Category;
+import com.matekoncz.task_manager.model.Priority;
+import com.matekoncz.task_manager.model.Status;
+import com.matekoncz.task_manager.model.Task;
+import com.matekoncz.task_manager.model.TaskFilter;
+import com.matekoncz.task_manager.model.TaskSummary;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.service.category.CategoryService;
+import com.matekoncz.task_manager.service.task.SearchResult;
+import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.task.TaskSummarySearchResult;
+import com.matekoncz.task_manager.service.user.UserService;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskStatementCountTest extends TaskManagerIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User creator;
+    private Category category;
+    private Long firstTaskId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskService.deleteAll();
+        userService.deleteAll();
+        categoryService.deleteAll();
+
+        creator = userService.createUser(new User(null, "creator", "password"));
+        User[] assignees = new User[5];
+        for (int i = 0; i < assignees.length; i++) {
+            assignees[i] = userService.createUser(new User(null, "assignee" + i, "password"));
+        }
+        Category[] categories = new Category[5];
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] = categoryService.createCategory(new Category("Category" + i));
+        }
+        category = categories[0];
+        for (int i = 0; i < 25; i++) {
+            Task task = taskService.createTask(new Task(null, "desc" + i, Status.values()[i % Status.values().length],
+                    assignees[i % assignees.length], creator, LocalDate.of(2025, 10, i + 1),
+                    LocalDate.of(2025, 9, 1), Priority.values()[i % Priority.values().length],
+                    categories[i % categories.length]));
+            if (firstTaskId == null) {
+                firstTaskId = task.getId();
+            }
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldLoadTaskByIdInOneStatement() throws Exception {
+        Task task = taskService.getTaskById(firstTaskId);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertAssociationsInitialized(List.of(task));
+    }
+
+    @Test
+    void shouldListAllTasksInOneStatement() {
+        List<Task> tasks = taskService.getAllTasks();
+
+        assertEquals(25, tasks.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertAssociationsInitialized(tasks);
+    }
+
+    @Test
+    @ExtendWith(OutputCaptureExtension.class)
+    void shouldCollectStatisticsWithoutLoggingSessionMetrics(CapturedOutput output) {
+        taskService.getAllTasks();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertFalse(output.getAll().contains("Session Metrics"));
+    }
+
+    @Test
+    void shouldSearchPageWithOneStatementPlusCount() {
+        SearchResult result = taskService.listTaskByFilter(new TaskFilter(), 0, "dueDate", true);
+
+        assertEquals(10, result.getTasks().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertAssociationsInitialized(result.getTasks());
+    }
+
+    @Test
+    void shouldSearchSliceInOneStatement() {
+        SearchResult result = taskService.listTaskByFilter(new TaskFilter(), 10, 10, "status", false, false);
+
+        assertEquals(10, result.getTasks().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertAssociationsInitialized(result.getTasks());
+    }
+
+    @Test
+    void shouldSearchWithCursorInOneStatement() throws Exception {
+        SearchResult result = taskService.listTaskByFilterAfter(new TaskFilter(), "", 10, "priority", true);
+
+        assertEquals(10, result.getTasks().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertAssociationsInitialized(result.getTasks());
+    }
+
+    @Test
+    void shouldSearchInOneReadOnlyTransactionWithoutFlushing() throws Exception {
+        taskService.listTaskByFilter(new TaskFilter(), 0, "dueDate", true);
+        TaskSummarySearchResult summaries = taskService.listTaskSummariesByFilter(new TaskFilter(), 0, 10, "", true,
+                true);
+        taskService.listTaskByFilterAfter(new TaskFilter(), "", 10, "priority", true);
+        taskService.getTaskById(firstTaskId);
+
+        assertEquals(10, summaries.getTasks().size());
+        assertEquals(4, statistics.getTransactionCount());
+        assertEquals(0, statistics.getFlushCount());
+    }
+
+    @Test
+    void shouldUpdateTaskInOneTransaction() throws Exception {
+        Task task = taskService.getTaskById(firstTaskId);
+        statistics.clear();
+        task.setDescription("updated");
+
+        taskService.updateTask(firstTaskId, task);
+
+        assertEquals(1, statistics.getTransactionCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    void shouldServeTextSearchFromTheIndexOnePageAtATime() throws Exception {
+        TaskFilter filter = new TaskFilter();
+        filter.setDescription("desc");
+
+        List<Long> ids = new ArrayList<>();
+        String cursor = "";
+        do {
+            statistics.clear();
+            SearchResult page = taskService.listTaskByFilterAfter(filter, cursor, 10, "dueDate", true);
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertAssociationsInitialized(page.getTasks());
+            page.getTasks().forEach(task -> ids.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(25, ids.size());
+        assertEquals(25, ids.stream().distinct().count());
+
+        statistics.clear();
+        TaskSummarySearchResult summaries = taskService.listTaskSummariesByFilter(filter, 20, 10, "dueDate", true,
+                true);
+        assertEquals(25, summaries.getNumberOfResults());
+        assertEquals(ids.subList(20, 25), summaries.getTasks().stream().map(TaskSummary::getId).toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        assertEquals(25, taskService.getBoard(filter).getTotal());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        List<Task> exported = new ArrayList<>();
+        taskService.exportTasksByFilter(filter, exported::add);
+        assertEquals(ids.stream().sorted().toList(), exported.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void shouldExportTasksInOneStatement() throws Exception {
+        List<Task> exported = new ArrayList<>();
+        taskService.exportTasksByFilter(new TaskFilter(), exported::add);
+
+        assertEquals(25, exported.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertAssociationsInitialized(exported);
+    }
+
+    @Test
+    void shouldBatchInsertsWhenCreatingTasksInBatch() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            tasks.add(new Task(null, "batch" + i, Status.NEW, null, creator, LocalDate.now(), LocalDate.now(),
+                    Priority.LOW, null));
+        }
+
+        taskService.createTasks(tasks);
+
+        assertEquals(40, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 4,
+                "expected batched inserts but got " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void shouldValidateReferencesWithoutPerReferenceLookups() throws Exception {
+        taskService.createTask(new Task(null, "single", Status.NEW, creator, creator, LocalDate.now(),
+                LocalDate.now(), Priority.LOW, category));
+
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private void assertAssociationsInitialized(List<Task> tasks) {
+        for (Task task : tasks) {
+            assertTrue(Hibernate.isInitialized(task.getCreator()));
+            assertTrue(Hibernate.isInitialized(task.getAssignee()));
+            assertTrue(Hibernate.isInitialized(task.getCategory()));
+        }
+    }
+}
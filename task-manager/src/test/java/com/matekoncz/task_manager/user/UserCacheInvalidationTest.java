@@ -0,0 +1,68 @@
+package com.matekoncz.task_manager.user;
+
+import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.model.UserDto;
+import com.matekoncz.task_manager.service.task.TaskService;
+import com.matekoncz.task_manager.service.user.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserCacheInvalidationTest extends TaskManagerIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        taskService.deleteAll();
+        userService.deleteAll();
+        userService.createUser(new User(null, "alice", "password"));
+        userService.createUser(new User(null, "bob", "password"));
+    }
+
+    @Test
+    void shouldNotCacheUsersReadBeforeCreateCommits() {
+        assertEquals(2, userService.getAllUserDtos().size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                userService.createUser(new User(null, "carol", "password"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            assertEquals(2, CompletableFuture.supplyAsync(userService::getAllUserDtos).join().size());
+        });
+
+        assertEquals(List.of("alice", "bob", "carol"),
+                userService.getAllUserDtos().stream().map(UserDto::getUsername).sorted().toList());
+    }
+
+    @Test
+    void shouldNotCacheUsersReadBeforeDeleteAllCommits() {
+        assertEquals(2, userService.getAllUserDtos().size());
+        String version = userService.getUsersVersion();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.deleteAll();
+            assertEquals(2, CompletableFuture.supplyAsync(userService::getAllUserDtos).join().size());
+        });
+
+        assertTrue(userService.getAllUserDtos().isEmpty());
+        assertNotEquals(version, userService.getUsersVersion());
+    }
+}
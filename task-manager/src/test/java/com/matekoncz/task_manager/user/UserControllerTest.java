@@ -1,6 +1,7 @@
 package com.matekoncz.task_manager.user;
 
 import com.matekoncz.task_manager.TaskManagerIntegrationTest;
+import com.matekoncz.task_manager.exceptions.auth.PasswordHashingIsBusyException;
 import com.matekoncz.task_manager.exceptions.user.UserCanNotBeCreatedException;
 import com.matekoncz.task_manager.exceptions.user.UserNameIsNotUniqueException;
 import com.matekoncz.task_manager.exceptions.user.UserNotFoundException;
@@ -57,7 +58,8 @@ public class UserControllerTest extends TaskManagerIntegrationTest {
     }
 
     @Test
-    void shouldListAllUsers() throws UserCanNotBeCreatedException, UserNameIsNotUniqueException {
+    void shouldListAllUsers() throws UserCanNotBeCreatedException, UserNameIsNotUniqueException,
+            PasswordHashingIsBusyException {
         userService.createUser(new User(null, "user2", "pass2"));
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
@@ -74,6 +76,28 @@ public class UserControllerTest extends TaskManagerIntegrationTest {
         assertTrue(users.stream().anyMatch(u -> u.getUsername().equals("user2")));
     }
 
+    @Test
+    void shouldAnswerNotModifiedUntilUsersChange() throws UserCanNotBeCreatedException, UserNameIsNotUniqueException,
+            PasswordHashingIsBusyException {
+        ResponseEntity<UserDto[]> first = restTemplate.exchange("/api/users/all", HttpMethod.GET,
+                new HttpEntity<>(headers), UserDto[].class);
+        String etag = first.getHeaders().getETag();
+        assertNotNull(etag);
+
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<UserDto[]> unchanged = restTemplate.exchange("/api/users/all", HttpMethod.GET,
+                new HttpEntity<>(headers), UserDto[].class);
+        assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatusCode());
+        assertNull(unchanged.getBody());
+
+        userService.createUser(new User(null, "user2", "pass2"));
+        ResponseEntity<UserDto[]> changed = restTemplate.exchange("/api/users/all", HttpMethod.GET,
+                new HttpEntity<>(headers), UserDto[].class);
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertEquals(2, changed.getBody().length);
+        assertNotEquals(etag, changed.getHeaders().getETag());
+    }
+
     @Test
     void shouldNotSerializePasswordInResponse() throws UserNotFoundException {
         User user = new User(null, "jsonuser", "jsonpass");
@@ -1,30 +1,49 @@
 package com.matekoncz.task_manager.user;
 
+import com.matekoncz.task_manager.config.PasswordHashingConfiguration;
+import com.matekoncz.task_manager.exceptions.auth.PasswordHashingIsBusyException;
 import com.matekoncz.task_manager.exceptions.auth.WrongUsernameOrPasswordException;
 import com.matekoncz.task_manager.exceptions.user.UserCanNotBeCreatedException;
 import com.matekoncz.task_manager.exceptions.user.UserNameIsNotUniqueException;
 import com.matekoncz.task_manager.exceptions.user.UserNotFoundException;
 import com.matekoncz.task_manager.model.User;
+import com.matekoncz.task_manager.model.UserDto;
 import com.matekoncz.task_manager.repository.UserRepository;
+import com.matekoncz.task_manager.service.user.PasswordHasher;
 import com.matekoncz.task_manager.service.user.UserService;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.junit.jupiter.api.AfterEach;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
@@ -32,13 +51,40 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PasswordHashingConfiguration passwordHashingConfiguration = new PasswordHashingConfiguration();
+
+    private PasswordEncoder passwordEncoder = passwordHashingConfiguration.passwordEncoder("bcrypt", 4);
+
+    private ThreadPoolExecutor passwordHashingExecutor = passwordHashingConfiguration.passwordHashingExecutor(1, 1);
+
+    @Spy
+    private PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, passwordHashingExecutor);
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private UserService userService;
 
-    private BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.shutdownNow();
+    }
+
+    private User authenticate(String username, String password) throws Exception {
+        try {
+            return userService.authenticate(username, password).get();
+        } catch (ExecutionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
 
     @Test
-    void shouldCreateUser() throws UserCanNotBeCreatedException, UserNameIsNotUniqueException {
+    void shouldCreateUser()
+            throws UserCanNotBeCreatedException, UserNameIsNotUniqueException, PasswordHashingIsBusyException {
         User user = new User(null, "testuser", "password");
         User savedUser = new User(1L, "testuser", passwordEncoder.encode("password"));
 
@@ -49,6 +95,7 @@ public class UserServiceTest {
         assertNotNull(result);
         assertEquals("testuser", result.getUsername());
         assertTrue(passwordEncoder.matches("password", result.getPassword()));
+        verify(transactionManager).commit(ArgumentMatchers.any());
     }
 
     @Test
@@ -86,23 +133,25 @@ public class UserServiceTest {
     }
 
     @Test
-    void shouldAuthenticateWithCorrectCredentials() throws UserNotFoundException, WrongUsernameOrPasswordException {
+    void shouldAuthenticateWithCorrectCredentials() throws Exception {
         String rawPassword = "password";
         String encodedPassword = passwordEncoder.encode(rawPassword);
         User user = new User(1L, "testuser", encodedPassword);
 
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
 
-        User result = userService.authenticate("testuser", rawPassword);
+        User result = authenticate("testuser", rawPassword);
 
         assertNotNull(result);
         assertEquals("testuser", result.getUsername());
+        assertEquals(1, meterRegistry.get("task-manager.users.authenticate").tag("outcome", "success").timer()
+                .count());
     }
 
     @Test
     void shouldThrowWrongUsernameOrPasswordExceptionWhenAuthenticatingNonexistentUser() {
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.empty());
-        assertThrows(WrongUsernameOrPasswordException.class, () -> userService.authenticate("testuser", "password"));
+        assertThrows(WrongUsernameOrPasswordException.class, () -> authenticate("testuser", "password"));
     }
 
     @Test
@@ -112,7 +161,66 @@ public class UserServiceTest {
 
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
         assertThrows(WrongUsernameOrPasswordException.class,
-                () -> userService.authenticate("testuser", "wrongpassword"));
+                () -> authenticate("testuser", "wrongpassword"));
+        assertEquals(1, meterRegistry.get("task-manager.users.authenticate").tag("outcome", "rejected").timer()
+                .count());
+    }
+
+    @Test
+    void shouldHashDummyPasswordWhenAuthenticatingNonexistentUser() {
+        when(userRepository.findByUsername("nobody")).thenReturn(Optional.empty());
+
+        assertThrows(WrongUsernameOrPasswordException.class, () -> authenticate("nobody", "password"));
+
+        verify(passwordHasher).matches("password", null);
+    }
+
+    @Test
+    void shouldRehashLegacyPasswordOnLogin() throws Exception {
+        User user = new User(1L, "testuser", new BCryptPasswordEncoder(4).encode("password"));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+
+        authenticate("testuser", "password");
+
+        verify(userRepository).save(user);
+        assertTrue(user.getPassword().startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches("password", user.getPassword()));
+        assertFalse(passwordHasher.upgradeEncoding(user.getPassword()));
+    }
+
+    @Test
+    void shouldNotRehashCurrentPasswordOnLogin() throws Exception {
+        User user = new User(1L, "testuser", passwordEncoder.encode("password"));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+
+        authenticate("testuser", "password");
+
+        verify(userRepository, never()).save(ArgumentMatchers.any(User.class));
+    }
+
+    @Test
+    void shouldRejectHashingWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHashingExecutor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        passwordHashingExecutor.execute(() -> {
+        });
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.empty());
+
+        try {
+            assertThrows(PasswordHashingIsBusyException.class, () -> authenticate("testuser", "password"));
+            assertThrows(PasswordHashingIsBusyException.class,
+                    () -> userService.createUser(new User(null, "testuser", "password")));
+            assertEquals(2, userService.getPasswordHashingStatistics().getRejectedCount());
+            assertEquals(1, userService.getPasswordHashingStatistics().getQueueDepth());
+        } finally {
+            release.countDown();
+        }
     }
 
     @Test
@@ -127,4 +235,50 @@ public class UserServiceTest {
         assertEquals(2, result.size());
         assertEquals("user1", result.get(0).getUsername());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldServeUserDirectoryFromCache() {
+        when(userRepository.findAllUserDtos()).thenReturn(List.of(new UserDto(1L, "a"), new UserDto(2L, "b")));
+
+        userService.getAllUserDtos();
+        List<UserDto> result = userService.getAllUserDtos();
+
+        assertEquals(2, result.size());
+        verify(userRepository, times(1)).findAllUserDtos();
+        assertEquals(1, userService.getCacheStatistics().getHits());
+    }
+
+    @Test
+    void shouldResolveExistingUserIdsFromCache() {
+        when(userRepository.findUserDtosByIds(List.of(1L))).thenReturn(List.of(new UserDto(1L, "a")));
+
+        assertEquals(Set.of(1L), userService.getExistingUserIds(List.of(1L)));
+        assertEquals(Set.of(1L), userService.getExistingUserIds(List.of(1L)));
+
+        verify(userRepository, times(1)).findUserDtosByIds(anyCollection());
+    }
+
+    @Test
+    void shouldResolveUserByUsernameFromCache() throws UserNotFoundException {
+        User user = new User(1L, "testuser", "password");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+
+        userService.getUserDtoByUsername("testuser");
+        UserDto result = userService.getUserDtoById(1L);
+
+        assertEquals("testuser", result.getUsername());
+        verify(userRepository, never()).findById(1L);
+    }
+
+    @Test
+    void shouldInvalidateUserDirectoryWhenUserIsCreated() throws Exception {
+        when(userRepository.findAllUserDtos()).thenReturn(List.of(new UserDto(1L, "a")));
+        when(userRepository.save(ArgumentMatchers.any(User.class))).thenReturn(new User(2L, "b", "hash"));
+
+        userService.getAllUserDtos();
+        userService.createUser(new User(null, "b", "password"));
+        userService.getAllUserDtos();
+
+        verify(userRepository, times(2)).findAllUserDtos();
+    }
+}
@@ -0,0 +1,35 @@
+CREATE TABLE category (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name CHARACTER VARYING(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE task_manager_user (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    password CHARACTER VARYING(255) NOT NULL,
+    username CHARACTER VARYING(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE task (
+    created_at DATE NOT NULL,
+    due_date DATE NOT NULL,
+    priority TINYINT NOT NULL CHECK (priority BETWEEN 0 AND 3),
+    status TINYINT NOT NULL CHECK (status BETWEEN 0 AND 3),
+    assignee_id BIGINT,
+    category_id BIGINT,
+    creator_id BIGINT NOT NULL,
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    description CHARACTER VARYING(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE task ADD CONSTRAINT fk_pre_flyway_assignee FOREIGN KEY (assignee_id) REFERENCES task_manager_user;
+ALTER TABLE task ADD CONSTRAINT fk_pre_flyway_category FOREIGN KEY (category_id) REFERENCES category
+    ON DELETE SET NULL;
+ALTER TABLE task ADD CONSTRAINT fk_pre_flyway_creator FOREIGN KEY (creator_id) REFERENCES task_manager_user;
+
+INSERT INTO task_manager_user (username, password) VALUES ('legacy', 'legacy-password');
+INSERT INTO category (name) VALUES ('Legacy');
+INSERT INTO task (created_at, due_date, priority, status, creator_id, category_id, description)
+SELECT DATE '2025-01-01', DATE '2025-02-01', 1, 0, 1, 1, 'legacy task ' || x FROM SYSTEM_RANGE(1, 3);